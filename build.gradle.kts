@@ -4,6 +4,7 @@ plugins {
     `java-library`
     `maven-publish`
     id("com.diffplug.spotless") version "7.2.1"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.github.malczuuu"
@@ -25,8 +26,12 @@ repositories {
 
 val jakartaServletVersion = "6.1.0"
 val jakartaValidationVersion = "3.1.1"
+val hibernateValidatorVersion = "8.0.2.Final"
+val jacksonVersion = "2.19.2"
+val jmhCoreVersion = "1.37"
 val junitJupiterVersion = "5.13.4"
 val junitPlatformVersion = "1.13.4"
+val micrometerVersion = "1.15.4"
 val problem4jCoreVersion = "3.2.0-rc1"
 val problem4jJacksonVersion = "3.2.0-rc1"
 val slf4jVersion = "2.0.17"
@@ -43,15 +48,42 @@ dependencies {
 
     compileOnly("jakarta.servlet:jakarta.servlet-api:${jakartaServletVersion}")
     compileOnly("jakarta.validation:jakarta.validation-api:${jakartaValidationVersion}")
+    compileOnly("io.micrometer:micrometer-core:${micrometerVersion}")
+    compileOnly("org.springframework:spring-webflux:${springFrameworkVersion}")
+    compileOnly("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:${jacksonVersion}")
+    compileOnly("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:${jacksonVersion}")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor:${springBootVersion}")
 
     testImplementation("jakarta.servlet:jakarta.servlet-api:${jakartaServletVersion}")
     testImplementation("jakarta.validation:jakarta.validation-api:${jakartaValidationVersion}")
+    testImplementation("org.hibernate.validator:hibernate-validator:${hibernateValidatorVersion}")
+    testImplementation("io.micrometer:micrometer-core:${micrometerVersion}")
+    testImplementation("org.springframework:spring-webflux:${springFrameworkVersion}")
+    testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:${jacksonVersion}")
+    testImplementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:${jacksonVersion}")
     testImplementation("org.junit.jupiter:junit-jupiter-api:${junitJupiterVersion}")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:${junitJupiterVersion}")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher:${junitPlatformVersion}")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test:${springBootVersion}")
+
+    jmhImplementation("jakarta.servlet:jakarta.servlet-api:${jakartaServletVersion}")
+    jmhImplementation("jakarta.validation:jakarta.validation-api:${jakartaValidationVersion}")
+    jmhImplementation("org.hibernate.validator:hibernate-validator:${hibernateValidatorVersion}")
+    jmhImplementation("org.springframework:spring-test:${springFrameworkVersion}")
+    jmhImplementation("io.micrometer:micrometer-core:${micrometerVersion}")
+    jmhRuntimeOnly("org.slf4j:slf4j-simple:${slf4jVersion}")
+}
+
+/**
+ * Run benchmarks with `./gradlew jmh`. Results are written to `jmh/results.json` so that baseline
+ * numbers can be committed and compared in review.
+ */
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.projectDirectory.file("jmh/results.json"))
 }
 
 publishing {
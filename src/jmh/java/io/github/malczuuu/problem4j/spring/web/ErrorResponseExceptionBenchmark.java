@@ -0,0 +1,87 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.spring.web.formatting.DefaultDetailFormatting;
+import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Measures handling of framework-raised 4xx {@link ErrorResponseException}s, which are served with
+ * problem templates for status-only bodies. {@code reason} and {@code properties} bodies are always
+ * converted anew and serve as a baseline. {@code varyingReasons} cycles through many distinct
+ * reasons, as reasons containing identifiers do, which must not be slower than {@code reason}.
+ * Exceptions are created once, so that capturing their stack traces is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorResponseExceptionBenchmark {
+
+  private static final int VARYING_REASONS = 4096;
+
+  @Param({"status", "reason", "varyingReasons", "properties"})
+  private String body;
+
+  private ProblemResponseEntityExceptionHandler handler;
+  private ServletWebRequest request;
+  private ErrorResponseException[] exceptions;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    handler =
+        new ProblemResponseEntityExceptionHandler(
+            new DefaultDetailFormatting(DetailFormat.CAPITALIZED),
+            new JacksonFieldNameFormatting(null),
+            List.of());
+    request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/orders/12345"));
+    if (body.equals("varyingReasons")) {
+      exceptions = new ErrorResponseException[VARYING_REASONS];
+      for (int i = 0; i < exceptions.length; i++) {
+        exceptions[i] = new ResponseStatusException(HttpStatus.NOT_FOUND, "No order " + i);
+      }
+    } else {
+      exceptions = new ErrorResponseException[] {createException()};
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<Object> handleErrorResponseException() throws Exception {
+    ErrorResponseException exception = exceptions[next];
+    next = next + 1 < exceptions.length ? next + 1 : 0;
+    return handler.handleException(exception, request);
+  }
+
+  private ErrorResponseException createException() {
+    return switch (body) {
+      case "status" -> new ResponseStatusException(HttpStatus.NOT_FOUND);
+      case "reason" -> new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+      default -> {
+        ErrorResponseException ex = new ErrorResponseException(HttpStatus.CONFLICT);
+        ex.getBody().setProperty("orderId", "12345");
+        ex.getBody().setProperty("version", 7);
+        yield ex;
+      }
+    };
+  }
+}
@@ -0,0 +1,116 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Measures dispatching an exception to adapters that read a trace id from MDC and the current
+ * {@link Observation}. {@code plain} adapters read them from thread-locals, the way synchronous
+ * adapters do, so that {@link ExceptionAdapterDispatcher} does not capture any context. {@code
+ * contextAware} adapters read them from {@link ExceptionContext}, which the dispatcher then
+ * captures once per exception (copying MDC), as adapters running on other threads need.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExceptionContextBenchmark {
+
+  @Param({"1", "4", "8"})
+  private int adapters;
+
+  @Param({"plain", "contextAware"})
+  private String adapterKind;
+
+  private ObservationRegistry observationRegistry;
+  private ObservationExceptionContextAccessor observationAccessor;
+  private Observation.Scope observationScope;
+
+  private ExceptionAdapterDispatcher dispatcher;
+  private WebRequest request;
+  private Exception exception;
+  private long consumed;
+
+  @Setup
+  public void setUp() {
+    observationRegistry = ObservationRegistry.create();
+    observationRegistry.observationConfig().observationHandler(context -> true);
+    observationAccessor = new ObservationExceptionContextAccessor(observationRegistry);
+
+    List<ExceptionAdapter> exceptionAdapters = new ArrayList<>();
+    for (int i = 0; i < adapters; i++) {
+      exceptionAdapters.add(
+          adapterKind.equals("plain") ? new PlainAdapter() : new ContextAwareAdapter());
+    }
+    dispatcher = new ExceptionAdapterDispatcher(exceptionAdapters, List.of(observationAccessor));
+
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/orders");
+    request = new ServletWebRequest(servletRequest);
+    exception = new IllegalStateException("Order already placed");
+
+    MDC.put("traceId", "6f1c2a4b9e0d4c8a");
+    MDC.put("spanId", "9e0d4c8a");
+    MDC.put("userId", "user-12345");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    observationScope = Observation.start("http.server.requests", observationRegistry).openScope();
+  }
+
+  @TearDown
+  public void tearDown() {
+    observationScope.close();
+    RequestContextHolder.resetRequestAttributes();
+    MDC.clear();
+  }
+
+  @Benchmark
+  public long dispatch() {
+    dispatcher.dispatch(request, exception, null);
+    return consumed;
+  }
+
+  private void consume(String traceId, Observation observation) {
+    consumed += traceId.length() + (observation != null ? 1 : 0);
+  }
+
+  private class PlainAdapter implements ExceptionAdapter {
+
+    @Override
+    public void adapt(WebRequest request, Exception ex, Object body) {
+      consume(MDC.get("traceId"), observationRegistry.getCurrentObservation());
+    }
+  }
+
+  private class ContextAwareAdapter implements ExceptionAdapter {
+
+    @Override
+    public void adapt(WebRequest request, Exception ex, Object body) {}
+
+    @Override
+    public void adapt(WebRequest request, Exception ex, Object body, ExceptionContext context) {
+      consume(context.getMdc().get("traceId"), context.getValue(observationAccessor));
+    }
+  }
+}
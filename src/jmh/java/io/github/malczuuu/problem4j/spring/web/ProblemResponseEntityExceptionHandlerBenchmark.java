@@ -0,0 +1,254 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemException;
+import io.github.malczuuu.problem4j.jackson.ProblemModule;
+import io.github.malczuuu.problem4j.spring.web.formatting.DefaultDetailFormatting;
+import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+/**
+ * Measures the cost of producing an error response, starting from an already thrown exception and
+ * ending with {@code application/problem+json} bytes serialized through {@link ProblemModule}.
+ * Exceptions are created once in {@link #setUp()}, so the numbers cover the handler and the
+ * serialization, not the stack trace capture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProblemResponseEntityExceptionHandlerBenchmark {
+
+  private ProblemResponseEntityExceptionHandler handler;
+  private ObjectMapper objectMapper;
+  private ServletWebRequest request;
+
+  private MethodArgumentNotValidException methodArgumentNotValidException;
+  private ConstraintViolationException constraintViolationException;
+  private ProblemException problemException;
+  private Exception otherException;
+  private MethodArgumentTypeMismatchException typeMismatchException;
+  private HttpRequestMethodNotSupportedException httpRequestMethodNotSupportedException;
+  private NoResourceFoundException noResourceFoundException;
+  private HttpMessageNotReadableException httpMessageNotReadableException;
+  private MissingServletRequestParameterException missingServletRequestParameterException;
+  private ErrorResponseException errorResponseException;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    handler =
+        new ProblemResponseEntityExceptionHandler(
+            new DefaultDetailFormatting(DetailFormat.CAPITALIZED),
+            new JacksonFieldNameFormatting(null),
+            List.of());
+    objectMapper = new ObjectMapper().registerModule(new ProblemModule());
+    request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/orders"));
+
+    Method method = DummyController.class.getMethod("create", OrderRequest.class);
+    MethodParameter methodParameter = new MethodParameter(method, 0);
+
+    BeanPropertyBindingResult bindingResult =
+        new BeanPropertyBindingResult(new OrderRequest(), "orderRequest");
+    bindingResult.addError(new FieldError("orderRequest", "customerName", "must not be blank"));
+    bindingResult.addError(
+        new FieldError("orderRequest", "orderLineItems", "size must be between 1 and 100"));
+    bindingResult.addError(
+        new FieldError("orderRequest", "quantity", "must be greater than or equal to 1"));
+    bindingResult.addError(new ObjectError("orderRequest", "order total exceeds credit limit"));
+    methodArgumentNotValidException =
+        new MethodArgumentNotValidException(methodParameter, bindingResult);
+
+    try (ValidatorFactory factory =
+        Validation.byDefaultProvider()
+            .configure()
+            .messageInterpolator(new ParameterMessageInterpolator())
+            .buildValidatorFactory()) {
+      Validator validator = factory.getValidator();
+      constraintViolationException =
+          new ConstraintViolationException(validator.validate(new OrderRequest()));
+    }
+
+    problemException =
+        new ProblemException(
+            Problem.builder()
+                .title(HttpStatus.CONFLICT.getReasonPhrase())
+                .status(HttpStatus.CONFLICT.value())
+                .detail("Order already exists")
+                .extension("orderId", "ord-12345")
+                .build());
+
+    otherException = new IllegalStateException("Unexpected failure");
+
+    typeMismatchException =
+        new MethodArgumentTypeMismatchException(
+            "abc", Integer.class, "id", methodParameter, new NumberFormatException("abc"));
+
+    httpRequestMethodNotSupportedException =
+        new HttpRequestMethodNotSupportedException(
+            HttpMethod.PUT.name(), List.of(HttpMethod.GET.name(), HttpMethod.POST.name()));
+
+    noResourceFoundException = new NoResourceFoundException(HttpMethod.GET, "/wp-login.php");
+
+    httpMessageNotReadableException =
+        new HttpMessageNotReadableException(
+            "JSON parse error", new MockHttpInputMessage(new byte[0]));
+
+    missingServletRequestParameterException =
+        new MissingServletRequestParameterException("page", "Integer");
+
+    errorResponseException = new ErrorResponseException(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Benchmark
+  public byte[] handleMethodArgumentNotValid() throws JsonProcessingException {
+    return serialize(
+        handler.handleMethodArgumentNotValid(
+            methodArgumentNotValidException,
+            methodArgumentNotValidException.getHeaders(),
+            methodArgumentNotValidException.getStatusCode(),
+            request));
+  }
+
+  @Benchmark
+  public byte[] handleConstraintViolationException() throws JsonProcessingException {
+    return serialize(
+        handler.handleConstraintViolationException(constraintViolationException, request));
+  }
+
+  @Benchmark
+  public byte[] handleProblemException() throws JsonProcessingException {
+    return serialize(handler.handleProblemException(problemException, request));
+  }
+
+  @Benchmark
+  public byte[] handleOtherException() throws JsonProcessingException {
+    return serialize(handler.handleOtherException(otherException, request));
+  }
+
+  @Benchmark
+  public byte[] handleTypeMismatch() throws JsonProcessingException {
+    return serialize(
+        handler.handleTypeMismatch(
+            typeMismatchException, new HttpHeaders(), HttpStatus.BAD_REQUEST, request));
+  }
+
+  @Benchmark
+  public byte[] handleHttpRequestMethodNotSupported() throws JsonProcessingException {
+    return serialize(
+        handler.handleHttpRequestMethodNotSupported(
+            httpRequestMethodNotSupportedException,
+            httpRequestMethodNotSupportedException.getHeaders(),
+            httpRequestMethodNotSupportedException.getStatusCode(),
+            request));
+  }
+
+  @Benchmark
+  public byte[] handleNoResourceFoundException() throws JsonProcessingException {
+    return serialize(
+        handler.handleNoResourceFoundException(
+            noResourceFoundException,
+            noResourceFoundException.getHeaders(),
+            noResourceFoundException.getStatusCode(),
+            request));
+  }
+
+  @Benchmark
+  public byte[] handleHttpMessageNotReadable() throws JsonProcessingException {
+    return serialize(
+        handler.handleHttpMessageNotReadable(
+            httpMessageNotReadableException, new HttpHeaders(), HttpStatus.BAD_REQUEST, request));
+  }
+
+  @Benchmark
+  public byte[] handleMissingServletRequestParameter() throws JsonProcessingException {
+    return serialize(
+        handler.handleMissingServletRequestParameter(
+            missingServletRequestParameterException,
+            missingServletRequestParameterException.getHeaders(),
+            missingServletRequestParameterException.getStatusCode(),
+            request));
+  }
+
+  @Benchmark
+  public byte[] handleErrorResponseException() throws JsonProcessingException {
+    return serialize(
+        handler.handleErrorResponseException(
+            errorResponseException,
+            errorResponseException.getHeaders(),
+            errorResponseException.getStatusCode(),
+            request));
+  }
+
+  private byte[] serialize(ResponseEntity<Object> response) throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(response.getBody());
+  }
+
+  public static class OrderRequest {
+
+    @NotBlank private String customerName;
+
+    @Size(min = 1, max = 100)
+    private List<String> orderLineItems = List.of();
+
+    @Min(1)
+    private int quantity;
+
+    public String getCustomerName() {
+      return customerName;
+    }
+
+    public List<String> getOrderLineItems() {
+      return orderLineItems;
+    }
+
+    public int getQuantity() {
+      return quantity;
+    }
+  }
+
+  private static class DummyController {
+    public void create(OrderRequest request) {}
+  }
+}
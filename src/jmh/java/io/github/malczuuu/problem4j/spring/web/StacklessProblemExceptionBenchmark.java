@@ -0,0 +1,87 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemException;
+import io.github.malczuuu.problem4j.spring.web.formatting.DefaultDetailFormatting;
+import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Compares throwing {@link ProblemException} and {@link StacklessProblemException} from a call
+ * stack of given depth, and handling it with {@link ProblemResponseEntityExceptionHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StacklessProblemExceptionBenchmark {
+
+  @Param({"10", "100"})
+  private int depth;
+
+  private ProblemResponseEntityExceptionHandler handler;
+  private ServletWebRequest request;
+  private Problem problem;
+
+  @Setup
+  public void setUp() {
+    handler =
+        new ProblemResponseEntityExceptionHandler(
+            new DefaultDetailFormatting(DetailFormat.CAPITALIZED),
+            new JacksonFieldNameFormatting(null),
+            List.of());
+    request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/orders/12345"));
+    problem =
+        Problem.builder()
+            .title(HttpStatus.NOT_FOUND.getReasonPhrase())
+            .status(HttpStatus.NOT_FOUND.value())
+            .detail("Order not found")
+            .build();
+  }
+
+  @Benchmark
+  public ResponseEntity<Object> throwAndHandleProblemException() {
+    try {
+      throwAt(depth, false);
+      return null;
+    } catch (ProblemException e) {
+      return handler.handleProblemException(e, request);
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<Object> throwAndHandleStacklessProblemException() {
+    try {
+      throwAt(depth, true);
+      return null;
+    } catch (ProblemException e) {
+      return handler.handleProblemException(e, request);
+    }
+  }
+
+  private void throwAt(int remaining, boolean stackless) {
+    if (remaining > 0) {
+      throwAt(remaining - 1, stackless);
+      return;
+    }
+    throw stackless ? new StacklessProblemException(problem) : new ProblemException(problem);
+  }
+}
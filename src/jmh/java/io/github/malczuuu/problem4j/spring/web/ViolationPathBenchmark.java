@@ -0,0 +1,93 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures rendering {@code field} of constraint violations nested up to given depth, as the last
+ * property name and as the full property path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ViolationPathBenchmark {
+
+  @Param({"1", "4", "16"})
+  private int depth;
+
+  @Param({"false", "true"})
+  private boolean fullPath;
+
+  private ViolationResolver violationResolver;
+  private Set<ConstraintViolation<OrderLine>> violations;
+
+  @Setup
+  public void setUp() {
+    violationResolver =
+        new ViolationResolver(new JacksonFieldNameFormatting("SNAKE_CASE"), -1, fullPath);
+
+    OrderLine root = new OrderLine();
+    OrderLine current = root;
+    for (int i = 1; i < depth; i++) {
+      OrderLine child = new OrderLine();
+      current.subLines = List.of(new OrderLine(), child);
+      current.unitPrice = 1;
+      current = child;
+    }
+
+    try (ValidatorFactory factory =
+        Validation.byDefaultProvider()
+            .configure()
+            .messageInterpolator(new ParameterMessageInterpolator())
+            .buildValidatorFactory()) {
+      violations = factory.getValidator().validate(root);
+    }
+  }
+
+  @Benchmark
+  public void resolveFields(Blackhole blackhole) {
+    ViolationList resolved = violationResolver.resolve(violations);
+    for (int i = 0; i < resolved.size(); i++) {
+      blackhole.consume(resolved.getField(i));
+    }
+  }
+
+  public static class OrderLine {
+
+    @Min(1)
+    private int unitPrice;
+
+    @Valid private List<OrderLine> subLines = List.of();
+
+    public int getUnitPrice() {
+      return unitPrice;
+    }
+
+    public List<OrderLine> getSubLines() {
+      return subLines;
+    }
+  }
+}
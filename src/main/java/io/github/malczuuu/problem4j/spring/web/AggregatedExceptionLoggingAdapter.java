@@ -0,0 +1,195 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Alternative to {@link ExceptionLoggingAdapter} that, instead of logging every exception, counts
+ * them in groups of exception class, HTTP method, route pattern and response status, and logs one
+ * summary line per group on a fixed interval. Stack trace of the first exception of each group is
+ * logged, unless an exception with the same stack trace signature was already logged. Further
+ * exceptions of a group are only counted, without reading their stack traces.
+ *
+ * <p>Non-standard HTTP methods are counted as {@code OTHER}, so that clients cannot create groups
+ * at will. Number of groups is capped, exceptions that would create groups over the cap are counted
+ * together in one overflow group. Groups without exceptions since previous flush are removed.
+ */
+@SyncAdapter
+public class AggregatedExceptionLoggingAdapter
+    implements ExceptionAdapter, InitializingBean, DisposableBean {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(AggregatedExceptionLoggingAdapter.class);
+
+  private static final String UNKNOWN = "-";
+  private static final String OTHER_METHOD = "OTHER";
+  private static final Set<String> KNOWN_METHODS =
+      Arrays.stream(HttpMethod.values()).map(HttpMethod::name).collect(Collectors.toSet());
+
+  static final int MAX_GROUPS = 1000;
+  static final int MAX_STACK_SIGNATURES = 10_000;
+  private static final int MAX_CAUSE_DEPTH = 8;
+
+  private final Duration flushInterval;
+
+  private final ConcurrentMap<GroupKey, LongAdder> counts = new ConcurrentHashMap<>();
+  private final LongAdder overflowCount = new LongAdder();
+  private final Set<Integer> stackSignatures = ConcurrentHashMap.newKeySet();
+
+  private ScheduledExecutorService flushScheduler;
+
+  public AggregatedExceptionLoggingAdapter(Duration flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    log.info("Enabled aggregated HTTP exception logging");
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("problem4j-logging-");
+    threadFactory.setDaemon(true);
+    flushScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    flushScheduler.scheduleAtFixedRate(
+        this::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() {
+    if (flushScheduler != null) {
+      flushScheduler.shutdown();
+    }
+    flush();
+  }
+
+  @Override
+  public void adapt(WebRequest request, Exception ex, Object body) {
+    GroupKey key =
+        new GroupKey(ex.getClass(), method(request), routePattern(request), status(body));
+
+    LongAdder count = counts.get(key);
+    boolean newGroup = false;
+    if (count == null) {
+      if (counts.size() >= MAX_GROUPS) {
+        overflowCount.increment();
+        return;
+      }
+      LongAdder created = new LongAdder();
+      count = counts.putIfAbsent(key, created);
+      if (count == null) {
+        count = created;
+        newGroup = true;
+      }
+    }
+    count.increment();
+
+    if (newGroup && !(ex instanceof StacklessProblemException) && isFirstOccurrence(ex)) {
+      log.info(
+          "First occurrence of exception {} : {} on {} {}",
+          ex.getClass().getSimpleName(),
+          ex.getMessage(),
+          key.method(),
+          key.routePattern(),
+          ex);
+    }
+  }
+
+  /**
+   * Logs one line for each group with exceptions since previous flush and removes groups without
+   * them.
+   */
+  public void flush() {
+    counts.forEach(
+        (key, count) -> {
+          long value = count.sumThenReset();
+          if (value == 0) {
+            counts.remove(key, count);
+            // exceptions counted between reading and removing the group are still logged
+            value = count.sumThenReset();
+            if (value == 0) {
+              return;
+            }
+          }
+          log.info(
+              "{} x exception {} on {} {} with status {} in last {} ms",
+              value,
+              key.exceptionClass().getSimpleName(),
+              key.method(),
+              key.routePattern(),
+              key.status(),
+              flushInterval.toMillis());
+        });
+
+    long overflow = overflowCount.sumThenReset();
+    if (overflow > 0) {
+      log.info(
+          "{} x exception in groups over limit of {} in last {} ms",
+          overflow,
+          MAX_GROUPS,
+          flushInterval.toMillis());
+    }
+  }
+
+  private boolean isFirstOccurrence(Exception ex) {
+    int signature = stackSignature(ex);
+    if (stackSignatures.contains(signature)) {
+      return false;
+    }
+    if (stackSignatures.size() >= MAX_STACK_SIGNATURES) {
+      stackSignatures.clear();
+    }
+    return stackSignatures.add(signature);
+  }
+
+  private int stackSignature(Throwable ex) {
+    int result = 1;
+    Throwable current = ex;
+    for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+      result = 31 * result + current.getClass().getName().hashCode();
+      for (StackTraceElement element : current.getStackTrace()) {
+        result = 31 * result + element.hashCode();
+      }
+      current = current.getCause();
+    }
+    return result;
+  }
+
+  private String method(WebRequest request) {
+    if (request instanceof ServletWebRequest servletWebRequest) {
+      String method = servletWebRequest.getRequest().getMethod();
+      return KNOWN_METHODS.contains(method) ? method : OTHER_METHOD;
+    }
+    return UNKNOWN;
+  }
+
+  private String routePattern(WebRequest request) {
+    Object pattern =
+        request.getAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    return pattern != null ? pattern.toString() : UNKNOWN;
+  }
+
+  private int status(Object body) {
+    return body instanceof Problem problem ? problem.getStatus() : 0;
+  }
+
+  private record GroupKey(
+      Class<?> exceptionClass, String method, String routePattern, int status) {}
+}
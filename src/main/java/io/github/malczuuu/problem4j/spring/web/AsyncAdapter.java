@@ -0,0 +1,20 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks {@link ExceptionAdapter} to be called asynchronously by {@link
+ * AsyncExceptionAdapterExecutor}, so that the error response is returned without waiting for it.
+ *
+ * <p>Note that request object is shared with the servlet container, which may recycle it once the
+ * response is completed. Asynchronous adapters should not rely on reading the request after the
+ * response was sent.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AsyncAdapter {}
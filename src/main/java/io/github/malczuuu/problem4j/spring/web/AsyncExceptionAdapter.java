@@ -0,0 +1,83 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Decorates {@link ExceptionAdapter} so that it is called by {@link AsyncExceptionAdapterExecutor}.
+ * The delegate runs with {@link ExceptionContext} of the handling thread restored, so its logs keep
+ * MDC and tracing context regardless of which (platform or virtual) thread runs it.
+ */
+public class AsyncExceptionAdapter implements ExceptionAdapter {
+
+  private final ExceptionAdapter delegate;
+  private final AsyncExceptionAdapterExecutor executor;
+
+  public AsyncExceptionAdapter(ExceptionAdapter delegate, AsyncExceptionAdapterExecutor executor) {
+    this.delegate = delegate;
+    this.executor = executor;
+  }
+
+  /**
+   * Decorates adapters that should run asynchronously according to given mode, leaving the others
+   * untouched. Adapters annotated with {@link SyncAdapter} are never decorated.
+   */
+  public static List<ExceptionAdapter> decorate(
+      List<ExceptionAdapter> adapters, AsyncExceptionAdapterExecutor executor, AsyncMode mode) {
+    if (mode == AsyncMode.NONE) {
+      return adapters;
+    }
+
+    List<ExceptionAdapter> result = new ArrayList<>(adapters.size());
+    for (ExceptionAdapter adapter : adapters) {
+      if (!isAnnotated(adapter, SyncAdapter.class)
+          && (mode == AsyncMode.ALL || isAnnotated(adapter, AsyncAdapter.class))) {
+        result.add(new AsyncExceptionAdapter(adapter, executor));
+      } else {
+        result.add(adapter);
+      }
+    }
+    return result;
+  }
+
+  private static boolean isAnnotated(
+      ExceptionAdapter adapter, Class<? extends Annotation> annotationType) {
+    return AnnotatedElementUtils.hasAnnotation(ClassUtils.getUserClass(adapter), annotationType);
+  }
+
+  @Override
+  public void adapt(WebRequest request, Exception ex, Object body) {
+    adapt(request, ex, body, ExceptionContext.capture(List.of()));
+  }
+
+  @Override
+  public void adapt(WebRequest request, Exception ex, Object body, ExceptionContext context) {
+    executor.execute(
+        () -> {
+          try (ExceptionContext.Scope scope = context.restore()) {
+            delegate.adapt(request, ex, body, context);
+          }
+        });
+  }
+
+  @Override
+  public List<Class<? extends Exception>> getSupportedExceptionTypes() {
+    return delegate.getSupportedExceptionTypes();
+  }
+
+  public enum AsyncMode {
+
+    /** All adapters are called synchronously. */
+    NONE,
+
+    /** Only adapters annotated with {@link AsyncAdapter} are called asynchronously. */
+    ANNOTATED,
+
+    /** All adapters except ones annotated with {@link SyncAdapter} are called asynchronously. */
+    ALL
+  }
+}
@@ -0,0 +1,152 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Bounded executor for asynchronous {@link ExceptionAdapter} calls. At most {@code queueCapacity}
+ * tasks may be pending or running at once, tasks above that limit are handled according to {@link
+ * OverflowPolicy}.
+ *
+ * <p>Tasks run on virtual threads if requested and supported by the runtime (Java 21+), otherwise
+ * on a fixed pool of daemon platform threads.
+ */
+public class AsyncExceptionAdapterExecutor implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncExceptionAdapterExecutor.class);
+
+  private static final String THREAD_NAME_PREFIX = "problem4j-adapter-";
+
+  private final ExecutorService executor;
+  private final int queueCapacity;
+  private final Semaphore permits;
+  private final OverflowPolicy overflowPolicy;
+  private final double sampleRate;
+
+  private final LongAdder droppedCount = new LongAdder();
+
+  public AsyncExceptionAdapterExecutor(
+      int queueCapacity,
+      OverflowPolicy overflowPolicy,
+      double sampleRate,
+      int threads,
+      boolean virtualThreads) {
+    this.executor = createExecutor(threads, virtualThreads);
+    this.queueCapacity = queueCapacity;
+    this.permits = new Semaphore(queueCapacity);
+    this.overflowPolicy = overflowPolicy;
+    this.sampleRate = sampleRate;
+  }
+
+  private static ExecutorService createExecutor(int threads, boolean virtualThreads) {
+    if (virtualThreads) {
+      ExecutorService executor = createVirtualThreadExecutor();
+      if (executor != null) {
+        return executor;
+      }
+    }
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+    threadFactory.setDaemon(true);
+    return Executors.newFixedThreadPool(threads, threadFactory);
+  }
+
+  /**
+   * Looked up reflectively, as this library is compiled against Java 17, where virtual threads are
+   * not available.
+   */
+  private static ExecutorService createVirtualThreadExecutor() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) method.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  public void execute(Runnable task) {
+    if (!permits.tryAcquire()) {
+      overflow(task);
+      return;
+    }
+
+    try {
+      executor.execute(() -> runAndRelease(task));
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      overflow(task);
+    }
+  }
+
+  private void runAndRelease(Runnable task) {
+    try {
+      run(task);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private void overflow(Runnable task) {
+    switch (overflowPolicy) {
+      case CALLER_RUNS -> run(task);
+      case SAMPLE -> {
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+          run(task);
+        } else {
+          droppedCount.increment();
+        }
+      }
+      default -> droppedCount.increment();
+    }
+  }
+
+  private void run(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      log.warn(
+          "Exception adapter failed with {} : {}",
+          e.getClass().getSimpleName(),
+          e.getMessage(),
+          e);
+    }
+  }
+
+  /** Number of tasks currently pending or running. */
+  public int getQueueDepth() {
+    return queueCapacity - permits.availablePermits();
+  }
+
+  /** Number of tasks dropped since startup because of exceeded queue capacity. */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  public enum OverflowPolicy {
+
+    /** Tasks above capacity are dropped. */
+    DROP,
+
+    /** Tasks above capacity are run synchronously by the calling thread. */
+    CALLER_RUNS,
+
+    /**
+     * A fraction of tasks above capacity, configured with sample rate, is run by the calling
+     * thread, the rest is dropped.
+     */
+    SAMPLE
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/** Publishes queue depth and drop count of {@link AsyncExceptionAdapterExecutor} to Micrometer. */
+public class AsyncExceptionAdapterMetrics implements MeterBinder {
+
+  private final AsyncExceptionAdapterExecutor executor;
+
+  public AsyncExceptionAdapterMetrics(AsyncExceptionAdapterExecutor executor) {
+    this.executor = executor;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder(
+            "problem4j.adapters.async.queue.depth",
+            executor,
+            AsyncExceptionAdapterExecutor::getQueueDepth)
+        .description("Number of asynchronous exception adapter calls pending or running")
+        .register(registry);
+    FunctionCounter.builder(
+            "problem4j.adapters.async.dropped",
+            executor,
+            AsyncExceptionAdapterExecutor::getDroppedCount)
+        .description("Number of asynchronous exception adapter calls dropped on overflow")
+        .register(registry);
+  }
+}
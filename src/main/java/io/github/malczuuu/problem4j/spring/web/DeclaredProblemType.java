@@ -0,0 +1,29 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares problem type emitted for an exception, so that it is listed in {@link
+ * ProblemTypeCatalog}. Annotated exceptions are found by scanning application packages (or {@code
+ * problem4j.catalog.scan-packages}) on startup.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DeclaredProblemType {
+
+  /** URI of problem type. */
+  String type();
+
+  String title() default "";
+
+  /** HTTP status of problems of this type, {@code 0} if not constant. */
+  int status() default 0;
+
+  /** Human-readable description of when problems of this type occur. */
+  String description() default "";
+}
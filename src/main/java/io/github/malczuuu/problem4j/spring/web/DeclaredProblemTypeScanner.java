@@ -0,0 +1,53 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+/**
+ * Finds exceptions annotated with {@link DeclaredProblemType}. Annotations are read from class
+ * files, without loading scanned classes.
+ */
+class DeclaredProblemTypeScanner {
+
+  List<ProblemTypeCatalog.Entry> scan(List<String> basePackages) {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false) {
+          @Override
+          protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+            // abstract exceptions may declare types of their subclasses as well
+            return beanDefinition.getMetadata().isIndependent();
+          }
+        };
+    scanner.addIncludeFilter(new AnnotationTypeFilter(DeclaredProblemType.class));
+
+    List<ProblemTypeCatalog.Entry> entries = new ArrayList<>();
+    for (String basePackage : basePackages) {
+      for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+        Map<String, Object> attributes =
+            ((AnnotatedBeanDefinition) candidate)
+                .getMetadata()
+                .getAnnotationAttributes(DeclaredProblemType.class.getName());
+        if (attributes != null) {
+          entries.add(toEntry(attributes));
+        }
+      }
+    }
+    return entries;
+  }
+
+  private ProblemTypeCatalog.Entry toEntry(Map<String, Object> attributes) {
+    String title = (String) attributes.get("title");
+    String description = (String) attributes.get("description");
+    return new ProblemTypeCatalog.Entry(
+        URI.create((String) attributes.get("type")),
+        title.isEmpty() ? null : title,
+        (Integer) attributes.get("status"),
+        description.isEmpty() ? null : description);
+  }
+}
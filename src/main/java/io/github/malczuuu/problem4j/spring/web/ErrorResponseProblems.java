@@ -0,0 +1,49 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemBuilder;
+import java.util.Map;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+
+/**
+ * Converts bodies of {@link ErrorResponseException}s to problems. Bodies carrying only a status (no
+ * detail, instance nor properties) are served with {@link ProblemTemplates}. Other bodies are
+ * always converted anew, as details and instances often contain identifiers and property values
+ * may be mutable.
+ */
+final class ErrorResponseProblems {
+
+  private final ProblemTemplates problemTemplates;
+
+  ErrorResponseProblems(ProblemTemplates problemTemplates) {
+    this.problemTemplates = problemTemplates;
+  }
+
+  Problem toProblem(ErrorResponseException ex, HttpStatusCode status) {
+    ProblemDetail body = ex.getBody();
+    Map<String, Object> properties = body.getProperties();
+    if (properties != null && !properties.isEmpty()) {
+      return build(body, status, properties);
+    }
+    if (body.getDetail() != null || body.getInstance() != null) {
+      return build(body, status, Map.of());
+    }
+    return problemTemplates.get(status);
+  }
+
+  private Problem build(ProblemDetail body, HttpStatusCode status, Map<String, Object> properties) {
+    ProblemBuilder builder =
+        Problem.builder()
+            .title(problemTemplates.getReasonPhrase(status))
+            .status(status.value())
+            .detail(body.getDetail())
+            .instance(body.getInstance());
+
+    for (Map.Entry<String, Object> entry : properties.entrySet()) {
+      builder = builder.extension(entry.getKey(), entry.getValue());
+    }
+    return builder.build();
+  }
+}
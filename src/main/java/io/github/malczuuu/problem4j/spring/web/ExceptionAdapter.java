@@ -1,8 +1,30 @@
 package io.github.malczuuu.problem4j.spring.web;
 
+import java.util.List;
 import org.springframework.web.context.request.WebRequest;
 
 public interface ExceptionAdapter {
 
   void adapt(WebRequest request, Exception ex, Object body);
+
+  /**
+   * Variant of {@link #adapt(WebRequest, Exception, Object)} receiving a snapshot of thread-bound
+   * context of the request. Adapters that read MDC or tracing context, or offload work to other
+   * threads, should override this method and use given context. Context is captured only if any
+   * of adapters called for an exception overrides this method. Defaults to calling {@link
+   * #adapt(WebRequest, Exception, Object)}.
+   */
+  default void adapt(WebRequest request, Exception ex, Object body, ExceptionContext context) {
+    adapt(request, ex, body);
+  }
+
+  /**
+   * Exception types (including their subtypes) this adapter is called for. Matching adapters are
+   * resolved once per exception class, so adapters interested in a narrow set of exceptions should
+   * declare it here instead of checking exception type in {@link #adapt}. Defaults to all
+   * exceptions.
+   */
+  default List<Class<? extends Exception>> getSupportedExceptionTypes() {
+    return List.of(Exception.class);
+  }
 }
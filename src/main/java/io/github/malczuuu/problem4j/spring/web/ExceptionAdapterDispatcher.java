@@ -0,0 +1,101 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Calls {@link ExceptionAdapter}s supporting given exception. Adapters matching an exception class
+ * are resolved on first occurrence of that class and cached, so following exceptions of the same
+ * class run only the adapters that apply, without checking each of them again.
+ *
+ * <p>Thread-bound context is captured into {@link ExceptionContext} once per exception and shared
+ * by all called adapters. It is captured only if any of them overrides {@link
+ * ExceptionAdapter#adapt(WebRequest, Exception, Object, ExceptionContext)} (such as {@link
+ * AsyncExceptionAdapter}), others are called without it.
+ */
+public class ExceptionAdapterDispatcher {
+
+  private static final ExceptionAdapter[] NO_ADAPTERS = new ExceptionAdapter[0];
+  private static final AdapterChain NO_CHAIN = new AdapterChain(NO_ADAPTERS, false);
+
+  private final List<ExceptionAdapter> exceptionAdapters;
+  private final List<ExceptionContextAccessor<?>> contextAccessors;
+
+  private final ClassValue<AdapterChain> chainsByExceptionClass =
+      new ClassValue<>() {
+        @Override
+        protected AdapterChain computeValue(Class<?> exceptionClass) {
+          return resolveChain(exceptionClass);
+        }
+      };
+
+  public ExceptionAdapterDispatcher(List<ExceptionAdapter> exceptionAdapters) {
+    this(exceptionAdapters, List.of());
+  }
+
+  public ExceptionAdapterDispatcher(
+      List<ExceptionAdapter> exceptionAdapters,
+      List<ExceptionContextAccessor<?>> contextAccessors) {
+    this.exceptionAdapters = List.copyOf(exceptionAdapters);
+    this.contextAccessors = List.copyOf(contextAccessors);
+  }
+
+  public void dispatch(WebRequest request, Exception ex, Object body) {
+    AdapterChain chain = chainsByExceptionClass.get(ex.getClass());
+    if (chain.adapters().length == 0) {
+      return;
+    }
+
+    if (chain.contextAware()) {
+      ExceptionContext context = ExceptionContext.capture(contextAccessors);
+      for (ExceptionAdapter adapter : chain.adapters()) {
+        adapter.adapt(request, ex, body, context);
+      }
+    } else {
+      for (ExceptionAdapter adapter : chain.adapters()) {
+        adapter.adapt(request, ex, body);
+      }
+    }
+  }
+
+  private AdapterChain resolveChain(Class<?> exceptionClass) {
+    List<ExceptionAdapter> result = new ArrayList<>();
+    boolean contextAware = false;
+    for (ExceptionAdapter adapter : exceptionAdapters) {
+      if (supports(adapter, exceptionClass)) {
+        result.add(adapter);
+        contextAware = contextAware || isContextAware(adapter);
+      }
+    }
+    return result.isEmpty()
+        ? NO_CHAIN
+        : new AdapterChain(result.toArray(NO_ADAPTERS), contextAware);
+  }
+
+  private boolean isContextAware(ExceptionAdapter adapter) {
+    Method method =
+        ReflectionUtils.findMethod(
+            adapter.getClass(),
+            "adapt",
+            WebRequest.class,
+            Exception.class,
+            Object.class,
+            ExceptionContext.class);
+    return method == null || method.getDeclaringClass() != ExceptionAdapter.class;
+  }
+
+  private boolean supports(ExceptionAdapter adapter, Class<?> exceptionClass) {
+    for (Class<? extends Exception> supportedType : adapter.getSupportedExceptionTypes()) {
+      if (supportedType.isAssignableFrom(exceptionClass)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Adapters supporting an exception class and whether any of them reads the context. */
+  private record AdapterChain(ExceptionAdapter[] adapters, boolean contextAware) {}
+}
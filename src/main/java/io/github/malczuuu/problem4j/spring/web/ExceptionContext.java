@@ -0,0 +1,124 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.util.List;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Snapshot of thread-bound context (MDC, request attributes and values of {@link
+ * ExceptionContextAccessor}s) taken once per handled exception and passed to every {@link
+ * ExceptionAdapter}. Adapters read the context from the snapshot instead of repeating thread-local
+ * lookups, and adapters that offload their work to other threads (including virtual threads) use
+ * {@link #wrap(Runnable)} to have the same context there.
+ */
+public final class ExceptionContext {
+
+  private static final Scope NOOP_SCOPE = () -> {};
+
+  private final Map<String, String> mdc;
+  private final RequestAttributes requestAttributes;
+  private final List<ExceptionContextAccessor<?>> accessors;
+  private final Object[] values;
+
+  private ExceptionContext(
+      Map<String, String> mdc,
+      RequestAttributes requestAttributes,
+      List<ExceptionContextAccessor<?>> accessors,
+      Object[] values) {
+    this.mdc = mdc;
+    this.requestAttributes = requestAttributes;
+    this.accessors = accessors;
+    this.values = values;
+  }
+
+  /** Takes a snapshot of the context bound to the calling thread. */
+  public static ExceptionContext capture(List<ExceptionContextAccessor<?>> accessors) {
+    Object[] values = new Object[accessors.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = accessors.get(i).capture();
+    }
+    return new ExceptionContext(
+        MDC.getCopyOfContextMap(), RequestContextHolder.getRequestAttributes(), accessors, values);
+  }
+
+  /** Returns copy of MDC of the handling thread, or {@code null} if it was empty. */
+  public Map<String, String> getMdc() {
+    return mdc;
+  }
+
+  /** Returns request attributes of the handling thread, or {@code null} if there were none. */
+  public RequestAttributes getRequestAttributes() {
+    return requestAttributes;
+  }
+
+  /**
+   * Returns value captured by given accessor, or {@code null} if accessor is not part of this
+   * context or there was no value.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(ExceptionContextAccessor<T> accessor) {
+    for (int i = 0; i < values.length; i++) {
+      if (accessors.get(i) == accessor) {
+        return (T) values[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Binds this context to the calling thread. Returned scope must be closed on the same thread to
+   * bring back the previous context.
+   */
+  public Scope restore() {
+    Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+    RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+    setMdc(mdc);
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+
+    Scope[] scopes = new Scope[values.length];
+    for (int i = 0; i < values.length; i++) {
+      scopes[i] = restore(accessors.get(i), values[i]);
+    }
+
+    return () -> {
+      for (int i = scopes.length - 1; i >= 0; i--) {
+        scopes[i].close();
+      }
+      RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+      setMdc(previousMdc);
+    };
+  }
+
+  /** Returns task running given one within this context. */
+  public Runnable wrap(Runnable task) {
+    return () -> {
+      try (Scope scope = restore()) {
+        task.run();
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Scope restore(ExceptionContextAccessor<T> accessor, Object value) {
+    Scope scope = accessor.restore((T) value);
+    return scope != null ? scope : NOOP_SCOPE;
+  }
+
+  private static void setMdc(Map<String, String> contextMap) {
+    if (contextMap != null) {
+      MDC.setContextMap(contextMap);
+    } else {
+      MDC.clear();
+    }
+  }
+
+  /** Scope of a restored context, closing it does not throw checked exceptions. */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
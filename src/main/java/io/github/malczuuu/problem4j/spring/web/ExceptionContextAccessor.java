@@ -0,0 +1,21 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+/**
+ * Reads a thread-bound value (e.g. tracing context) when an exception is handled and makes it
+ * current again on a thread running an {@link ExceptionAdapter}. Registered as a Spring bean, it is
+ * included in every {@link ExceptionContext} along with MDC and request attributes.
+ *
+ * @param <T> type of captured value
+ */
+public interface ExceptionContextAccessor<T> {
+
+  /** Returns value bound to the calling thread, or {@code null} if there is none. */
+  T capture();
+
+  /**
+   * Binds captured value to the calling thread. Returned scope brings back the previous state.
+   *
+   * @param value value returned by {@link #capture()}, possibly {@code null}
+   */
+  ExceptionContext.Scope restore(T value);
+}
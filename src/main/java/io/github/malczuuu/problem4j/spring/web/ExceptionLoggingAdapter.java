@@ -1,27 +1,99 @@
 package io.github.malczuuu.problem4j.spring.web;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
-public class ExceptionLoggingAdapter implements ExceptionAdapter, InitializingBean {
+@SyncAdapter
+public class ExceptionLoggingAdapter implements ExceptionAdapter, InitializingBean, DisposableBean {
 
   private static final Logger log = LoggerFactory.getLogger(ExceptionLoggingAdapter.class);
 
+  private final ExceptionLoggingLimiter limiter;
+  private final Duration summaryInterval;
+  private final boolean includeQueryString;
+  private final int maxQueryStringLength;
+
+  private ScheduledExecutorService summaryScheduler;
+
+  public ExceptionLoggingAdapter() {
+    this(null, null, true, -1);
+  }
+
+  /**
+   * @param limiter limiter deciding which exceptions are logged, {@code null} to log all of them
+   * @param summaryInterval how often to log number of suppressed exceptions
+   * @param includeQueryString whether to log query string along with request path
+   * @param maxQueryStringLength length after which logged query string is truncated, negative for
+   *     no limit
+   */
+  public ExceptionLoggingAdapter(
+      ExceptionLoggingLimiter limiter,
+      Duration summaryInterval,
+      boolean includeQueryString,
+      int maxQueryStringLength) {
+    this.limiter = limiter;
+    this.summaryInterval = summaryInterval;
+    this.includeQueryString = includeQueryString;
+    this.maxQueryStringLength = maxQueryStringLength;
+  }
+
   @Override
   public void afterPropertiesSet() {
     log.info("Enabled HTTP exception logging");
+    if (limiter != null) {
+      CustomizableThreadFactory threadFactory =
+          new CustomizableThreadFactory("problem4j-logging-summary-");
+      threadFactory.setDaemon(true);
+      summaryScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+      summaryScheduler.scheduleAtFixedRate(
+          this::logSuppressedSummary,
+          summaryInterval.toMillis(),
+          summaryInterval.toMillis(),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    if (summaryScheduler != null) {
+      summaryScheduler.shutdown();
+      logSuppressedSummary();
+    }
+  }
+
+  private void logSuppressedSummary() {
+    limiter.drainSuppressed(
+        (exceptionClass, count) ->
+            log.info(
+                "{} similar {} exceptions suppressed in last {} ms",
+                count,
+                exceptionClass.getSimpleName(),
+                summaryInterval.toMillis()));
   }
 
   @Override
   public void adapt(WebRequest request, Exception ex, Object body) {
+    if (!log.isInfoEnabled()) {
+      return;
+    }
+    if (limiter != null && !limiter.tryAcquire(ex.getClass())) {
+      return;
+    }
+
     if (request instanceof ServletWebRequest) {
       log((ServletWebRequest) request, ex);
     } else {
-      if (log.isDebugEnabled()) {
+      if (log.isDebugEnabled() && hasStackTrace(ex)) {
         log.debug(
             "Unhandled exception {} : {}", ex.getClass().getSimpleName(), ex.getMessage(), ex);
       } else {
@@ -35,13 +107,13 @@ private void log(ServletWebRequest request, Exception ex) {
   }
 
   private void log(HttpServletRequest request, Exception ex) {
-    if (log.isDebugEnabled()) {
+    if (log.isDebugEnabled() && hasStackTrace(ex)) {
       log.debug(
           "Unhandled exception {} : {} on {} {}",
           ex.getClass().getSimpleName(),
           ex.getMessage(),
           request.getMethod(),
-          path(request),
+          new RequestPath(request),
           ex);
     } else {
       log.info(
@@ -49,15 +121,53 @@ private void log(HttpServletRequest request, Exception ex) {
           ex.getClass().getSimpleName(),
           ex.getMessage(),
           request.getMethod(),
-          path(request));
+          new RequestPath(request));
     }
   }
 
-  private String path(HttpServletRequest req) {
-    String result = req.getServletPath();
-    if (req.getQueryString() != null && !req.getQueryString().isEmpty()) {
-      result += "?" + req.getQueryString();
+  /**
+   * Exceptions without stack trace, such as {@link StacklessProblemException}, are logged the same
+   * way on every level, as there would be no stack trace to print.
+   */
+  private boolean hasStackTrace(Exception ex) {
+    return !(ex instanceof StacklessProblemException) && ex.getStackTrace().length > 0;
+  }
+
+  /**
+   * Request path rendered only when the log message is formatted, which does not happen if the
+   * message is filtered out by logging backend.
+   */
+  private final class RequestPath {
+
+    private final HttpServletRequest request;
+
+    private RequestPath(HttpServletRequest request) {
+      this.request = request;
+    }
+
+    @Override
+    public String toString() {
+      String servletPath = request.getServletPath();
+      if (!includeQueryString) {
+        return servletPath;
+      }
+
+      String queryString = request.getQueryString();
+      if (queryString == null || queryString.isEmpty()) {
+        return servletPath;
+      }
+
+      boolean truncated =
+          maxQueryStringLength >= 0 && queryString.length() > maxQueryStringLength;
+      int queryLength = truncated ? maxQueryStringLength : queryString.length();
+
+      StringBuilder result =
+          new StringBuilder(servletPath.length() + queryLength + (truncated ? 4 : 1));
+      result.append(servletPath).append('?').append(queryString, 0, queryLength);
+      if (truncated) {
+        result.append("...");
+      }
+      return result.toString();
     }
-    return result;
   }
 }
@@ -0,0 +1,88 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Decides whether an exception should be logged, applying probabilistic sampling and a token bucket
+ * per exception class. Events that are not allowed are counted as suppressed, per exception class.
+ */
+public class ExceptionLoggingLimiter {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final long permitIntervalNanos;
+  private final long burstWindowNanos;
+  private final double sampleRate;
+
+  private final ConcurrentMap<Class<?>, Bucket> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * @param permitsPerSecond rate at which tokens are refilled for each exception class, rate
+   *     limiting is disabled if not positive
+   * @param burst maximum number of tokens for each exception class
+   * @param sampleRate fraction of events that are considered for logging at all, from {@code 0.0}
+   *     to {@code 1.0}
+   */
+  public ExceptionLoggingLimiter(double permitsPerSecond, int burst, double sampleRate) {
+    this.permitIntervalNanos =
+        permitsPerSecond > 0 ? Math.max(1L, (long) (NANOS_PER_SECOND / permitsPerSecond)) : 0L;
+    this.burstWindowNanos = permitIntervalNanos * Math.max(1, burst);
+    this.sampleRate = sampleRate;
+  }
+
+  public boolean tryAcquire(Class<?> exceptionClass) {
+    Bucket bucket = buckets.get(exceptionClass);
+    if (bucket == null) {
+      bucket = buckets.computeIfAbsent(exceptionClass, k -> new Bucket());
+    }
+
+    if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      bucket.suppressed.increment();
+      return false;
+    }
+    if (permitIntervalNanos > 0 && !bucket.tryAcquire(System.nanoTime())) {
+      bucket.suppressed.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /** Passes counts of events suppressed since previous call, skipping classes with none. */
+  public void drainSuppressed(ObjLongConsumer<Class<?>> consumer) {
+    buckets.forEach(
+        (exceptionClass, bucket) -> {
+          long suppressed = bucket.suppressed.sumThenReset();
+          if (suppressed > 0) {
+            consumer.accept(exceptionClass, suppressed);
+          }
+        });
+  }
+
+  /**
+   * Token bucket implemented as generic cell rate algorithm, which keeps only the theoretical
+   * arrival time of next event and updates it with compare-and-set.
+   */
+  private final class Bucket {
+
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    private final LongAdder suppressed = new LongAdder();
+
+    private boolean tryAcquire(long now) {
+      while (true) {
+        long current = theoreticalArrivalTime.get();
+        long next = Math.max(current, now) + permitIntervalNanos;
+        if (next - now > burstWindowNanos) {
+          return false;
+        }
+        if (theoreticalArrivalTime.compareAndSet(current, next)) {
+          return true;
+        }
+      }
+    }
+  }
+}
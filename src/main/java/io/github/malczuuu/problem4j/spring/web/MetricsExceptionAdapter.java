@@ -0,0 +1,126 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.Ordered;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts problems by status, exception class, problem type and route template, and records time
+ * spent on handling the exception up to calling this adapter. Meters are created once per tag
+ * combination and cached, so no meter registry lookups are performed for already seen combinations.
+ *
+ * <p>Handling time is measured from the moment stored by {@link ProblemTimingExceptionResolver}.
+ * This adapter runs last among adapters, so the recorded time includes other synchronous adapters.
+ */
+@SyncAdapter
+public class MetricsExceptionAdapter implements ExceptionAdapter, Ordered {
+
+  public static final String PROBLEMS_METRIC = "problem4j.problems";
+  public static final String HANDLER_METRIC = "problem4j.handler";
+
+  static final String START_TIME_ATTRIBUTE =
+      MetricsExceptionAdapter.class.getName() + ".START_TIME";
+
+  private static final String UNKNOWN = "UNKNOWN";
+  private static final String OTHER = "OTHER";
+  private static final String BLANK_TYPE = Problem.BLANK_TYPE.toString();
+
+  private final MeterRegistry meterRegistry;
+  private final int maxTypes;
+
+  private final ConcurrentMap<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<URI, String> types = new ConcurrentHashMap<>();
+
+  /**
+   * @param maxTypes maximum number of distinct problem types used as tag values, further types are
+   *     reported as {@code OTHER}
+   */
+  public MetricsExceptionAdapter(MeterRegistry meterRegistry, int maxTypes) {
+    this.meterRegistry = meterRegistry;
+    this.maxTypes = maxTypes;
+  }
+
+  @Override
+  public void adapt(WebRequest request, Exception ex, Object body) {
+    MeterKey key = new MeterKey(status(body), ex.getClass(), type(body), route(request));
+
+    Meters current = meters.get(key);
+    if (current == null) {
+      current = meters.computeIfAbsent(key, this::createMeters);
+    }
+
+    current.counter().increment();
+
+    Object startTime = request.getAttribute(START_TIME_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (startTime instanceof Long start) {
+      current.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Meters createMeters(MeterKey key) {
+    String status = Integer.toString(key.status());
+    String exception = key.exceptionClass().getSimpleName();
+    Counter counter =
+        Counter.builder(PROBLEMS_METRIC)
+            .description("Number of exceptions mapped to problem responses")
+            .tag("status", status)
+            .tag("exception", exception)
+            .tag("type", key.type())
+            .tag("route", key.route())
+            .register(meterRegistry);
+    Timer timer =
+        Timer.builder(HANDLER_METRIC)
+            .description("Time spent on handling exceptions into problem responses")
+            .tag("status", status)
+            .tag("exception", exception)
+            .tag("type", key.type())
+            .tag("route", key.route())
+            .register(meterRegistry);
+    return new Meters(counter, timer);
+  }
+
+  private int status(Object body) {
+    return body instanceof Problem problem ? problem.getStatus() : 0;
+  }
+
+  private String type(Object body) {
+    if (!(body instanceof Problem problem) || problem.getType() == null) {
+      return BLANK_TYPE;
+    }
+
+    URI type = problem.getType();
+    String value = types.get(type);
+    if (value != null) {
+      return value;
+    }
+    if (types.size() >= maxTypes) {
+      return OTHER;
+    }
+    return types.computeIfAbsent(type, URI::toString);
+  }
+
+  private String route(WebRequest request) {
+    Object pattern =
+        request.getAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    return pattern != null ? pattern.toString() : UNKNOWN;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  private record MeterKey(int status, Class<?> exceptionClass, String type, String route) {}
+
+  private record Meters(Counter counter, Timer timer) {}
+}
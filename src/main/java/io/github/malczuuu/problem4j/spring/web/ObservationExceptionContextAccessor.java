@@ -0,0 +1,31 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Captures current Micrometer {@link Observation}, so that adapters running on other threads report
+ * their work (e.g. logs with trace identifiers, outgoing calls) within the same trace.
+ */
+public class ObservationExceptionContextAccessor implements ExceptionContextAccessor<Observation> {
+
+  private final ObservationRegistry observationRegistry;
+
+  public ObservationExceptionContextAccessor(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Override
+  public Observation capture() {
+    return observationRegistry.getCurrentObservation();
+  }
+
+  @Override
+  public ExceptionContext.Scope restore(Observation value) {
+    if (value == null) {
+      return null;
+    }
+    Observation.Scope scope = value.openScope();
+    return scope::close;
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import io.github.malczuuu.problem4j.core.Problem;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Keeps {@link ProblemTemplates} problems serialized with application's {@link ObjectMapper}, so
+ * that responses with constant problems can be written without running Jackson serialization.
+ *
+ * <p>Serialized bodies are recomputed if {@link ObjectMapper} serialization config or serializer
+ * factory is replaced, which happens whenever features are toggled or modules with serializers
+ * are registered.
+ */
+public class PrecomputedProblemBodies {
+
+  private final ObjectMapper objectMapper;
+  private final ProblemTemplates problemTemplates;
+
+  private volatile Snapshot snapshot;
+
+  public PrecomputedProblemBodies(ObjectMapper objectMapper, ProblemTemplates problemTemplates) {
+    this.objectMapper = objectMapper;
+    this.problemTemplates = problemTemplates;
+    this.snapshot = createSnapshot();
+  }
+
+  /**
+   * Returns serialized form of given body, or {@code null} if body is not one of {@link
+   * ProblemTemplates} problems. Returned array is shared and must not be modified.
+   */
+  public byte[] find(Object body) {
+    Snapshot current = snapshot;
+    if (!current.isUpToDate(objectMapper)) {
+      current = createSnapshot();
+      snapshot = current;
+    }
+    return current.bodies().get(body);
+  }
+
+  private Snapshot createSnapshot() {
+    SerializationConfig config = objectMapper.getSerializationConfig();
+    SerializerFactory serializerFactory = objectMapper.getSerializerFactory();
+
+    Map<Object, byte[]> bodies = new IdentityHashMap<>();
+    for (HttpStatus status : HttpStatus.values()) {
+      Problem problem = problemTemplates.get(status);
+      try {
+        bodies.put(problem, objectMapper.writeValueAsBytes(problem));
+      } catch (JsonProcessingException e) {
+        // such problem is left out and serialized on each response as usual
+      }
+    }
+    return new Snapshot(config, serializerFactory, bodies);
+  }
+
+  private record Snapshot(
+      SerializationConfig config, SerializerFactory serializerFactory, Map<Object, byte[]> bodies) {
+
+    private boolean isUpToDate(ObjectMapper objectMapper) {
+      return objectMapper.getSerializationConfig() == config
+          && objectMapper.getSerializerFactory() == serializerFactory;
+    }
+  }
+}
@@ -1,19 +1,57 @@
 package io.github.malczuuu.problem4j.spring.web;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import io.github.malczuuu.problem4j.jackson.ProblemModule;
+import io.github.malczuuu.problem4j.spring.web.AsyncExceptionAdapter.AsyncMode;
 import io.github.malczuuu.problem4j.spring.web.formatting.DefaultDetailFormatting;
 import io.github.malczuuu.problem4j.spring.web.formatting.DetailFormatting;
 import io.github.malczuuu.problem4j.spring.web.formatting.FieldNameFormatting;
 import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import io.github.malczuuu.problem4j.spring.web.reactive.ReactiveExceptionAdapter;
+import io.github.malczuuu.problem4j.spring.web.reactive.ReactiveExceptionLoggingAdapter;
+import io.github.malczuuu.problem4j.spring.web.reactive.ReactiveProblemResponseEntityExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.autoconfigure.jackson.JacksonProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.unit.DataSize;
 
 @Configuration(proxyBeanMethods = false)
+@AutoConfigureAfter(
+    name = {
+      "org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration",
+      "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+      "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration"
+    })
 @EnableConfigurationProperties(ProblemProperties.class)
 public class ProblemAutoConfiguration {
 
@@ -23,15 +61,6 @@ public ProblemModule problemModule() {
     return new ProblemModule();
   }
 
-  @ConditionalOnProperty(
-      name = "problem4j.logging-enabled",
-      havingValue = "true",
-      matchIfMissing = true)
-  @Bean
-  public ExceptionLoggingAdapter exceptionLoggingAdapter() {
-    return new ExceptionLoggingAdapter();
-  }
-
   @ConditionalOnMissingBean(DetailFormatting.class)
   @Bean
   public DetailFormatting detailFormatting(ProblemProperties properties) {
@@ -44,13 +73,382 @@ public FieldNameFormatting fieldNameFormatting(JacksonProperties properties) {
     return new JacksonFieldNameFormatting(properties.getPropertyNamingStrategy());
   }
 
+  @ConditionalOnMissingBean(ViolationResolver.class)
+  @Bean
+  public ViolationResolver violationResolver(
+      FieldNameFormatting fieldNameFormatting, ProblemProperties properties) {
+    ProblemProperties.Validation validation = properties.getValidation();
+    return new ViolationResolver(
+        fieldNameFormatting, validation.getMaxErrors(), validation.isFullPath());
+  }
+
+  @ConditionalOnMissingBean(ProblemTemplates.class)
+  @Bean
+  public ProblemTemplates problemTemplates() {
+    return new ProblemTemplates();
+  }
+
+  @ConditionalOnMissingBean(ProblemMappingRegistry.class)
+  @Bean
+  public ProblemMappingRegistry problemMappingRegistry(
+      ProblemProperties properties, ObjectProvider<ProblemMappingCustomizer> customizers) {
+    ProblemMappingRegistry registry = new ProblemMappingRegistry();
+    properties
+        .getMappings()
+        .forEach((className, mapping) -> register(registry, className, mapping));
+    customizers.orderedStream().forEach(customizer -> customizer.customize(registry));
+    return registry;
+  }
+
+  private static void register(
+      ProblemMappingRegistry registry, String className, ProblemProperties.Mapping properties) {
+    Class<? extends Exception> exceptionType = resolveExceptionType(className);
+    ProblemMapping<? extends Exception> mapping =
+        registry.register(exceptionType, HttpStatusCode.valueOf(properties.getStatus()));
+    if (properties.getTitle() != null) {
+      mapping.title(properties.getTitle());
+    }
+    if (properties.getType() != null) {
+      mapping.type(properties.getType());
+    }
+    String detail = properties.getDetail();
+    if (detail != null && detail.contains("{message}")) {
+      mapping.detail(ex -> detail.replace("{message}", String.valueOf(ex.getMessage())));
+    } else if (detail != null) {
+      mapping.detail(detail);
+    }
+  }
+
+  private static Class<? extends Exception> resolveExceptionType(String className) {
+    Class<?> type;
+    try {
+      type = ClassUtils.forName(className, ProblemAutoConfiguration.class.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      throw new IllegalStateException(
+          "Exception class of problem4j.mappings entry not found: " + className, e);
+    }
+    if (!Exception.class.isAssignableFrom(type)) {
+      throw new IllegalStateException(
+          "Class of problem4j.mappings entry is not an exception: " + className);
+    }
+    return type.asSubclass(Exception.class);
+  }
+
+  @ConditionalOnMissingBean(RetryAfterHeaders.class)
+  @Bean
+  public RetryAfterHeaders retryAfterHeaders(ProblemProperties properties) {
+    ProblemProperties.RetryAfter retryAfter = properties.getRetryAfter();
+    return new RetryAfterHeaders(retryAfter.getDefaultDelay(), retryAfter.getJitter());
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(name = "problem4j.precomputed-bodies.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(PrecomputedProblemBodies.class)
+  @Bean
+  public PrecomputedProblemBodies precomputedProblemBodies(
+      ObjectMapper objectMapper, ProblemTemplates problemTemplates) {
+    return new PrecomputedProblemBodies(objectMapper, problemTemplates);
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(name = "problem4j.compression.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(ProblemBodyCompression.class)
+  @Bean
+  public ProblemBodyCompression problemBodyCompression(
+      ObjectMapper objectMapper, ProblemProperties properties) {
+    DataSize minSize = properties.getCompression().getMinSize();
+    return new ProblemBodyCompression(objectMapper, (int) minSize.toBytes());
+  }
+
+  /**
+   * Binary encodings are enabled for Jackson dataformats present on classpath. Their factories are
+   * created in nested classes, so that this class does not link against missing dataformats.
+   */
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @Conditional(BinaryEncodingsCondition.class)
+  @ConditionalOnBean(ObjectMapper.class)
+  @ConditionalOnMissingBean(ProblemContentNegotiation.class)
+  @Bean
+  public ProblemContentNegotiation problemContentNegotiation(ObjectMapper objectMapper) {
+    ClassLoader classLoader = ProblemAutoConfiguration.class.getClassLoader();
+    Map<MediaType, ObjectMapper> objectMappers = new LinkedHashMap<>();
+    if (ClassUtils.isPresent(CborEncoding.CLASS_NAME, classLoader)) {
+      objectMappers.put(
+          ProblemContentNegotiation.APPLICATION_PROBLEM_CBOR,
+          binaryObjectMapper(objectMapper, CborEncoding.create()));
+    }
+    if (ClassUtils.isPresent(SmileEncoding.CLASS_NAME, classLoader)) {
+      objectMappers.put(
+          ProblemContentNegotiation.APPLICATION_PROBLEM_SMILE,
+          binaryObjectMapper(objectMapper, SmileEncoding.create()));
+    }
+    return new ProblemContentNegotiation(objectMappers);
+  }
+
+  private static ObjectMapper binaryObjectMapper(ObjectMapper objectMapper, JsonFactory factory) {
+    return objectMapper.copyWith(factory).registerModule(new ProblemModule());
+  }
+
+  private static final class CborEncoding {
+
+    private static final String CLASS_NAME = "com.fasterxml.jackson.dataformat.cbor.CBORFactory";
+
+    private static JsonFactory create() {
+      return new CBORFactory();
+    }
+  }
+
+  private static final class SmileEncoding {
+
+    private static final String CLASS_NAME = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+
+    private static JsonFactory create() {
+      return new SmileFactory();
+    }
+  }
+
+  /** Matches if any Jackson dataformat of binary problem encodings is present on classpath. */
+  static class BinaryEncodingsCondition extends AnyNestedCondition {
+
+    BinaryEncodingsCondition() {
+      super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @ConditionalOnClass(name = CborEncoding.CLASS_NAME)
+    static class OnCbor {}
+
+    @ConditionalOnClass(name = SmileEncoding.CLASS_NAME)
+    static class OnSmile {}
+  }
+
+  /**
+   * Matches unless {@code problem4j.adapters.async.mode} is {@code none}, so that no threads are
+   * started for applications that do not call adapters asynchronously.
+   */
+  static class AsyncAdaptersCondition extends SpringBootCondition {
+
+    @Override
+    public ConditionOutcome getMatchOutcome(
+        ConditionContext context, AnnotatedTypeMetadata metadata) {
+      AsyncMode mode =
+          Binder.get(context.getEnvironment())
+              .bind("problem4j.adapters.async.mode", AsyncMode.class)
+              .orElse(AsyncMode.ANNOTATED);
+      return mode != AsyncMode.NONE
+          ? ConditionOutcome.match("asynchronous adapters mode is " + mode)
+          : ConditionOutcome.noMatch("asynchronous adapters mode is " + mode);
+    }
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @Conditional(AsyncAdaptersCondition.class)
+  @ConditionalOnMissingBean(AsyncExceptionAdapterExecutor.class)
+  @Bean
+  public AsyncExceptionAdapterExecutor asyncExceptionAdapterExecutor(ProblemProperties properties) {
+    ProblemProperties.Async async = properties.getAdapters().getAsync();
+    return new AsyncExceptionAdapterExecutor(
+        async.getQueueCapacity(),
+        async.getOverflowPolicy(),
+        async.getSampleRate(),
+        async.getThreads(),
+        async.isVirtualThreads());
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
   @ConditionalOnMissingBean(ProblemResponseEntityExceptionHandler.class)
   @Bean
   public ProblemResponseEntityExceptionHandler problemResponseEntityExceptionHandler(
       DetailFormatting detailFormatting,
-      FieldNameFormatting fieldNameFormatting,
-      List<ExceptionAdapter> exceptionAdapters) {
+      ViolationResolver violationResolver,
+      List<ExceptionAdapter> exceptionAdapters,
+      ProblemTemplates problemTemplates,
+      ObjectProvider<PrecomputedProblemBodies> precomputedProblemBodies,
+      ObjectProvider<ExceptionContextAccessor<?>> contextAccessors,
+      ProblemMappingRegistry problemMappingRegistry,
+      ObjectProvider<ProblemBodyCompression> problemBodyCompression,
+      ObjectProvider<ProblemContentNegotiation> problemContentNegotiation,
+      RetryAfterHeaders retryAfterHeaders,
+      ObjectProvider<AsyncExceptionAdapterExecutor> asyncExceptionAdapterExecutor,
+      ProblemProperties properties) {
+    AsyncExceptionAdapterExecutor executor = asyncExceptionAdapterExecutor.getIfAvailable();
+    AsyncMode asyncMode =
+        executor != null ? properties.getAdapters().getAsync().getMode() : AsyncMode.NONE;
     return new ProblemResponseEntityExceptionHandler(
-        detailFormatting, fieldNameFormatting, exceptionAdapters);
+        detailFormatting,
+        violationResolver,
+        AsyncExceptionAdapter.decorate(exceptionAdapters, executor, asyncMode),
+        problemTemplates,
+        precomputedProblemBodies.getIfAvailable(),
+        contextAccessors.orderedStream().toList(),
+        problemMappingRegistry,
+        problemBodyCompression.getIfAvailable(),
+        problemContentNegotiation.getIfAvailable(),
+        retryAfterHeaders);
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(name = "problem4j.filter.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(ProblemExceptionFilter.class)
+  @Bean
+  public ProblemExceptionFilter problemExceptionFilter(
+      ProblemResponseEntityExceptionHandler problemResponseEntityExceptionHandler,
+      ObjectMapper objectMapper) {
+    return new ProblemExceptionFilter(problemResponseEntityExceptionHandler, objectMapper);
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnClass(MeterRegistry.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemMetricsConfiguration {
+
+    @Conditional(AsyncAdaptersCondition.class)
+    @ConditionalOnMissingBean(AsyncExceptionAdapterMetrics.class)
+    @Bean
+    public AsyncExceptionAdapterMetrics asyncExceptionAdapterMetrics(
+        AsyncExceptionAdapterExecutor asyncExceptionAdapterExecutor) {
+      return new AsyncExceptionAdapterMetrics(asyncExceptionAdapterExecutor);
+    }
+
+    @ConditionalOnProperty(
+        name = "problem4j.metrics.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean(MetricsExceptionAdapter.class)
+    @Bean
+    public MetricsExceptionAdapter metricsExceptionAdapter(
+        MeterRegistry meterRegistry, ProblemProperties properties) {
+      return new MetricsExceptionAdapter(meterRegistry, properties.getMetrics().getMaxTypes());
+    }
+
+    @ConditionalOnBean(MetricsExceptionAdapter.class)
+    @Bean
+    public ProblemTimingExceptionResolver problemTimingExceptionResolver() {
+      return new ProblemTimingExceptionResolver();
+    }
+
+    @ConditionalOnBean(ObservationRegistry.class)
+    @ConditionalOnMissingBean(ObservationExceptionContextAccessor.class)
+    @Bean
+    public ObservationExceptionContextAccessor observationExceptionContextAccessor(
+        ObservationRegistry observationRegistry) {
+      return new ObservationExceptionContextAccessor(observationRegistry);
+    }
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(
+      name = "problem4j.logging-enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemLoggingConfiguration {
+
+    @ConditionalOnProperty(
+        name = "problem4j.logging.mode",
+        havingValue = "individual",
+        matchIfMissing = true)
+    @Bean
+    public ExceptionLoggingAdapter exceptionLoggingAdapter(ProblemProperties properties) {
+      ProblemProperties.Logging logging = properties.getLogging();
+      ExceptionLoggingLimiter limiter = null;
+      if (logging.isLimited()) {
+        ProblemProperties.RateLimit rateLimit = logging.getRateLimit();
+        limiter =
+            new ExceptionLoggingLimiter(
+                rateLimit.isEnabled() ? rateLimit.getPermitsPerSecond() : 0.0,
+                rateLimit.getBurst(),
+                logging.getSampleRate());
+      }
+      return new ExceptionLoggingAdapter(
+          limiter,
+          logging.getSummaryInterval(),
+          logging.isIncludeQueryString(),
+          logging.getMaxQueryStringLength());
+    }
+
+    @ConditionalOnProperty(name = "problem4j.logging.mode", havingValue = "aggregated")
+    @Bean
+    public AggregatedExceptionLoggingAdapter aggregatedExceptionLoggingAdapter(
+        ProblemProperties properties) {
+      return new AggregatedExceptionLoggingAdapter(properties.getLogging().getSummaryInterval());
+    }
+  }
+
+  @ConditionalOnWebApplication(type = Type.SERVLET)
+  @ConditionalOnProperty(name = "problem4j.catalog.enabled", havingValue = "true")
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemCatalogConfiguration {
+
+    @ConditionalOnMissingBean(ProblemTypeCatalog.class)
+    @Bean
+    public ProblemTypeCatalog problemTypeCatalog(
+        ObjectMapper objectMapper,
+        ProblemMappingRegistry problemMappingRegistry,
+        ProblemTemplates problemTemplates,
+        ProblemProperties properties,
+        BeanFactory beanFactory) {
+      List<String> basePackages = properties.getCatalog().getScanPackages();
+      if (basePackages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+        basePackages = AutoConfigurationPackages.get(beanFactory);
+      }
+
+      List<ProblemTypeCatalog.Entry> entries =
+          new ArrayList<>(new DeclaredProblemTypeScanner().scan(basePackages));
+      for (ProblemMapping<?> mapping : problemMappingRegistry.getMappings().values()) {
+        if (mapping.getType() != null) {
+          String title =
+              mapping.getTitle() != null
+                  ? mapping.getTitle()
+                  : problemTemplates.getReasonPhrase(mapping.getStatus());
+          entries.add(
+              new ProblemTypeCatalog.Entry(
+                  mapping.getType(), title, mapping.getStatus().value(), null));
+        }
+      }
+      return new ProblemTypeCatalog(objectMapper, entries);
+    }
+
+    @ConditionalOnMissingBean(ProblemTypeCatalogController.class)
+    @Bean
+    public ProblemTypeCatalogController problemTypeCatalogController(
+        ProblemTypeCatalog problemTypeCatalog, ProblemProperties properties) {
+      return new ProblemTypeCatalogController(
+          problemTypeCatalog, properties.getCatalog().getMaxAge());
+    }
+  }
+
+  @ConditionalOnWebApplication(type = Type.REACTIVE)
+  @ConditionalOnClass(name = "org.springframework.web.reactive.DispatcherHandler")
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemReactiveConfiguration {
+
+    @ConditionalOnMissingBean(ReactiveProblemResponseEntityExceptionHandler.class)
+    @Bean
+    public ReactiveProblemResponseEntityExceptionHandler
+        reactiveProblemResponseEntityExceptionHandler(
+            DetailFormatting detailFormatting,
+            ViolationResolver violationResolver,
+            List<ReactiveExceptionAdapter> exceptionAdapters,
+            ProblemTemplates problemTemplates,
+            ProblemMappingRegistry problemMappingRegistry,
+            RetryAfterHeaders retryAfterHeaders) {
+      return new ReactiveProblemResponseEntityExceptionHandler(
+          detailFormatting,
+          violationResolver,
+          exceptionAdapters,
+          problemTemplates,
+          problemMappingRegistry,
+          retryAfterHeaders);
+    }
+
+    @ConditionalOnProperty(
+        name = "problem4j.logging-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+    @Bean
+    public ReactiveExceptionLoggingAdapter reactiveExceptionLoggingAdapter() {
+      return new ReactiveExceptionLoggingAdapter();
+    }
   }
 }
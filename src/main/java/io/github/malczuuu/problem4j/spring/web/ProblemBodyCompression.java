@@ -0,0 +1,117 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Compresses serialized problem bodies of at least given size with {@code gzip} or {@code
+ * deflate}, whichever is preferred by client's {@code Accept-Encoding} header. Compression is done
+ * by the library itself, so that it works regardless of container compression settings, which
+ * usually do not cover {@code application/problem+json} media type.
+ */
+public class ProblemBodyCompression {
+
+  static final String GZIP = "gzip";
+  static final String DEFLATE = "deflate";
+
+  private final ObjectMapper objectMapper;
+  private final int minSize;
+
+  /**
+   * @param minSize minimum size in bytes of serialized body to be compressed
+   */
+  public ProblemBodyCompression(ObjectMapper objectMapper, int minSize) {
+    this.objectMapper = objectMapper;
+    this.minSize = minSize;
+  }
+
+  /**
+   * Returns body serialized and compressed with encoding accepted by client, adding {@code
+   * Content-Encoding} to given headers, or {@code null} if body should be written as usual. Body
+   * is serialized only if client accepts one of supported encodings, and bodies smaller than
+   * minimum size are returned serialized but not compressed, so that they are not serialized twice.
+   *
+   * @param body problem or its already serialized form
+   * @param acceptEncoding value of {@code Accept-Encoding} request header, may be {@code null}
+   */
+  public byte[] compress(Object body, String acceptEncoding, HttpHeaders headers) {
+    String encoding = selectEncoding(acceptEncoding);
+    if (encoding == null) {
+      return null;
+    }
+
+    try {
+      byte[] bytes =
+          body instanceof byte[] serialized ? serialized : objectMapper.writeValueAsBytes(body);
+      headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      if (bytes.length < minSize) {
+        return bytes;
+      }
+      headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+      return encode(bytes, encoding);
+    } catch (IOException e) {
+      // body is left to message converters, which report serialization failure as usual
+      return null;
+    }
+  }
+
+  private static byte[] encode(byte[] bytes, String encoding) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+    try (OutputStream out =
+        GZIP.equals(encoding) ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+      out.write(bytes);
+    }
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Returns supported encoding with highest quality in given {@code Accept-Encoding} value, with
+   * {@code gzip} preferred on equal quality, or {@code null} if none is acceptable.
+   */
+  static String selectEncoding(String acceptEncoding) {
+    if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+      return null;
+    }
+
+    String selected = null;
+    double selectedQuality = 0.0;
+    for (String token : acceptEncoding.split(",")) {
+      String[] parts = token.split(";");
+      String coding = parts[0].trim().toLowerCase();
+      double quality = parseQuality(parts);
+      String encoding =
+          switch (coding) {
+            case GZIP, "x-gzip" -> GZIP;
+            case DEFLATE -> DEFLATE;
+            default -> null;
+          };
+      if (encoding == null || quality <= 0.0) {
+        continue;
+      }
+      if (quality > selectedQuality || (quality == selectedQuality && GZIP.equals(encoding))) {
+        selected = encoding;
+        selectedQuality = quality;
+      }
+    }
+    return selected;
+  }
+
+  private static double parseQuality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String parameter = parts[i].trim();
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2));
+        } catch (NumberFormatException e) {
+          return 0.0;
+        }
+      }
+    }
+    return 1.0;
+  }
+}
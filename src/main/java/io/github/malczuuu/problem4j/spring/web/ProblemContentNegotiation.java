@@ -0,0 +1,104 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Selects binary encoding of problem responses, such as {@code application/problem+cbor}, from
+ * client's {@code Accept} header. Problems in binary encodings are serialized directly, with {@link
+ * ObjectMapper} of given encoding, so no message converters need to be registered for them.
+ */
+public class ProblemContentNegotiation {
+
+  public static final MediaType APPLICATION_PROBLEM_CBOR =
+      new MediaType("application", "problem+cbor");
+
+  public static final MediaType APPLICATION_PROBLEM_SMILE =
+      new MediaType("application", "problem+smile");
+
+  private final Map<MediaType, ObjectMapper> objectMappers;
+
+  /**
+   * @param objectMappers mappers writing problems in binary encodings, by media type
+   */
+  public ProblemContentNegotiation(Map<MediaType, ObjectMapper> objectMappers) {
+    this.objectMappers = new LinkedHashMap<>(objectMappers);
+  }
+
+  /**
+   * Returns whether any binary encoding is available. If so, responses depend on {@code Accept}
+   * header, whichever encoding is selected.
+   */
+  public boolean hasBinaryEncodings() {
+    return !objectMappers.isEmpty();
+  }
+
+  /**
+   * Returns binary media type with highest quality in given {@code Accept} header, or {@code null}
+   * if problem should be written as JSON. Of media types with the same quality, the one listed
+   * first wins.
+   */
+  public MediaType select(String accept) {
+    if (objectMappers.isEmpty() || accept == null || accept.isEmpty()) {
+      return null;
+    }
+
+    List<MediaType> acceptedTypes;
+    try {
+      acceptedTypes = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return null;
+    }
+
+    MediaType selected = null;
+    double selectedQuality = 0.0;
+    for (MediaType acceptedType : acceptedTypes) {
+      double quality = acceptedType.getQualityValue();
+      if (quality <= selectedQuality) {
+        continue;
+      }
+      if (acceptedType.isCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON)
+          || acceptedType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        selected = null;
+        selectedQuality = quality;
+      } else {
+        MediaType binaryType = findBinaryType(acceptedType);
+        if (binaryType != null) {
+          selected = binaryType;
+          selectedQuality = quality;
+        }
+      }
+    }
+    return selected;
+  }
+
+  private MediaType findBinaryType(MediaType acceptedType) {
+    for (MediaType binaryType : objectMappers.keySet()) {
+      if (binaryType.equalsTypeAndSubtype(acceptedType)) {
+        return binaryType;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns body serialized in given media type, or {@code null} if it could not be serialized and
+   * should be written as JSON.
+   */
+  public byte[] write(MediaType mediaType, Object body) {
+    ObjectMapper objectMapper = objectMappers.get(mediaType);
+    if (objectMapper == null) {
+      return null;
+    }
+    try {
+      return objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Renders problem responses for exceptions thrown by filters placed after this one, using the
+ * mapping of {@link ProblemResponseEntityExceptionHandler}. Without it, such exceptions are
+ * forwarded to the {@code /error} page, which dispatches the request once again through the whole
+ * filter chain and {@code DispatcherServlet} and responds with a body that is not a problem.
+ *
+ * <p>Exceptions thrown after the response is committed, or by asynchronous processing, are
+ * rethrown unchanged.
+ */
+public class ProblemExceptionFilter extends OncePerRequestFilter implements Ordered {
+
+  /** Order placing this filter before Spring Security and other commonly used filters. */
+  public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  private final ProblemResponseEntityExceptionHandler exceptionHandler;
+  private final ObjectMapper objectMapper;
+  private final int order;
+
+  public ProblemExceptionFilter(
+      ProblemResponseEntityExceptionHandler exceptionHandler, ObjectMapper objectMapper) {
+    this(exceptionHandler, objectMapper, DEFAULT_ORDER);
+  }
+
+  public ProblemExceptionFilter(
+      ProblemResponseEntityExceptionHandler exceptionHandler,
+      ObjectMapper objectMapper,
+      int order) {
+    this.exceptionHandler = exceptionHandler;
+    this.objectMapper = objectMapper;
+    this.order = order;
+  }
+
+  @Override
+  public int getOrder() {
+    return order;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    try {
+      filterChain.doFilter(request, response);
+    } catch (ServletException | IOException | RuntimeException e) {
+      if (response.isCommitted() || request.isAsyncStarted()) {
+        throw e;
+      }
+      writeProblem(unwrap(e), request, response);
+    }
+  }
+
+  private Exception unwrap(Exception e) {
+    Exception ex = e;
+    while (ex instanceof ServletException && ex.getCause() instanceof Exception cause) {
+      ex = cause;
+    }
+    return ex;
+  }
+
+  private void writeProblem(Exception ex, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    ResponseEntity<Object> entity =
+        exceptionHandler.resolveException(ex, new ServletWebRequest(request, response));
+
+    response.reset();
+    response.setStatus(entity.getStatusCode().value());
+    for (Map.Entry<String, List<String>> header : entity.getHeaders().entrySet()) {
+      for (String value : header.getValue()) {
+        response.addHeader(header.getKey(), value);
+      }
+    }
+
+    Object body = entity.getBody();
+    if (body == null) {
+      return;
+    }
+    if (response.getContentType() == null) {
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    }
+    byte[] bytes =
+        body instanceof byte[] precomputed ? precomputed : objectMapper.writeValueAsBytes(body);
+    response.setContentLength(bytes.length);
+    response.getOutputStream().write(bytes);
+    response.flushBuffer();
+  }
+}
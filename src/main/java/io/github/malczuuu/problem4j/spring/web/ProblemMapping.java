@@ -0,0 +1,90 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemBuilder;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Describes how exceptions of a type registered in {@link ProblemMappingRegistry} are turned into
+ * problems. Title defaults to reason phrase of the status. Mapping is configured with chained calls
+ * during application startup and must not be modified afterwards.
+ *
+ * @param <E> type of mapped exceptions
+ */
+public class ProblemMapping<E extends Exception> {
+
+  private final HttpStatusCode status;
+  private URI type;
+  private String title;
+  private Function<? super E, String> detailExtractor;
+  private final Map<String, Function<? super E, ?>> extensionExtractors = new LinkedHashMap<>();
+
+  public ProblemMapping(HttpStatusCode status) {
+    this.status = status;
+  }
+
+  public ProblemMapping<E> type(URI type) {
+    this.type = type;
+    return this;
+  }
+
+  public ProblemMapping<E> title(String title) {
+    this.title = title;
+    return this;
+  }
+
+  public ProblemMapping<E> detail(String detail) {
+    return detail(ex -> detail);
+  }
+
+  public ProblemMapping<E> detail(Function<? super E, String> detailExtractor) {
+    this.detailExtractor = detailExtractor;
+    return this;
+  }
+
+  public ProblemMapping<E> extension(String name, Function<? super E, ?> valueExtractor) {
+    extensionExtractors.put(name, valueExtractor);
+    return this;
+  }
+
+  public HttpStatusCode getStatus() {
+    return status;
+  }
+
+  public URI getType() {
+    return type;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  /** Returns problem for given exception, a shared template if nothing but status is mapped. */
+  public Problem toProblem(E ex, ProblemTemplates problemTemplates) {
+    if (type == null
+        && title == null
+        && detailExtractor == null
+        && extensionExtractors.isEmpty()) {
+      return problemTemplates.get(status);
+    }
+
+    ProblemBuilder builder =
+        Problem.builder()
+            .title(title != null ? title : problemTemplates.getReasonPhrase(status))
+            .status(status.value());
+    if (type != null) {
+      builder = builder.type(type);
+    }
+    if (detailExtractor != null) {
+      builder = builder.detail(detailExtractor.apply(ex));
+    }
+    for (Map.Entry<String, Function<? super E, ?>> entry : extensionExtractors.entrySet()) {
+      builder = builder.extension(entry.getKey(), entry.getValue().apply(ex));
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+/**
+ * Registers application-specific mappings in {@link ProblemMappingRegistry}. Beans of this type are
+ * applied after mappings from {@code problem4j.mappings.*} properties, so they take precedence.
+ */
+@FunctionalInterface
+public interface ProblemMappingCustomizer {
+
+  void customize(ProblemMappingRegistry registry);
+}
@@ -0,0 +1,72 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Maps exception types to {@link ProblemMapping}s, used for exceptions that are not handled by any
+ * more specific exception handler. Mapping registered for the closest superclass of an exception
+ * applies. Mapping of an exception class is resolved on its first occurrence and cached, so further
+ * lookups take constant time regardless of the number of registered mappings.
+ *
+ * <p>Mappings are registered from code with {@link ProblemMappingCustomizer} beans, or with {@code
+ * problem4j.mappings.*} properties.
+ */
+public class ProblemMappingRegistry {
+
+  private static final ProblemMapping<?> NO_MAPPING =
+      new ProblemMapping<>(HttpStatusCode.valueOf(500));
+
+  private final Map<Class<?>, ProblemMapping<?>> mappings = new ConcurrentHashMap<>();
+
+  private volatile ClassValue<ProblemMapping<?>> mappingsByExceptionClass = createCache();
+
+  /**
+   * Registers mapping of given exception type (and its subtypes), replacing previous one. Returned
+   * mapping is meant to be further configured with chained calls.
+   */
+  public <E extends Exception> ProblemMapping<E> register(
+      Class<E> exceptionType, HttpStatusCode status) {
+    ProblemMapping<E> mapping = new ProblemMapping<>(status);
+    register(exceptionType, mapping);
+    return mapping;
+  }
+
+  public <E extends Exception> void register(Class<E> exceptionType, ProblemMapping<E> mapping) {
+    mappings.put(exceptionType, mapping);
+    mappingsByExceptionClass = createCache();
+  }
+
+  /** Returns registered mappings by exception type. */
+  public Map<Class<?>, ProblemMapping<?>> getMappings() {
+    return Collections.unmodifiableMap(mappings);
+  }
+
+  /** Returns mapping applying to given exception, or {@code null} if there is none. */
+  @SuppressWarnings("unchecked")
+  public <E extends Exception> ProblemMapping<E> find(E ex) {
+    ProblemMapping<?> mapping = mappingsByExceptionClass.get(ex.getClass());
+    return mapping != NO_MAPPING ? (ProblemMapping<E>) mapping : null;
+  }
+
+  private ClassValue<ProblemMapping<?>> createCache() {
+    return new ClassValue<>() {
+      @Override
+      protected ProblemMapping<?> computeValue(Class<?> exceptionClass) {
+        return resolveMapping(exceptionClass);
+      }
+    };
+  }
+
+  private ProblemMapping<?> resolveMapping(Class<?> exceptionClass) {
+    for (Class<?> type = exceptionClass; type != null; type = type.getSuperclass()) {
+      ProblemMapping<?> mapping = mappings.get(type);
+      if (mapping != null) {
+        return mapping;
+      }
+    }
+    return NO_MAPPING;
+  }
+}
@@ -1,26 +1,435 @@
 package io.github.malczuuu.problem4j.spring.web;
 
+import io.github.malczuuu.problem4j.spring.web.AsyncExceptionAdapter.AsyncMode;
+import io.github.malczuuu.problem4j.spring.web.AsyncExceptionAdapterExecutor.OverflowPolicy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
 
 @ConfigurationProperties(prefix = "problem4j")
 public class ProblemProperties {
 
   private final boolean loggingEnabled;
+  private final Logging logging;
   private final String defaultDetailFormat;
+  private final PrecomputedBodies precomputedBodies;
+  private final Adapters adapters;
+  private final Metrics metrics;
+  private final Filter filter;
+  private final Validation validation;
+  private final Map<String, Mapping> mappings;
+  private final Compression compression;
+  private final Catalog catalog;
+  private final RetryAfter retryAfter;
 
   public ProblemProperties(
       @DefaultValue("true") boolean loggingEnabled,
-      @DefaultValue(DetailFormat.CAPITALIZED) String defaultDetailFormat) {
+      @DefaultValue Logging logging,
+      @DefaultValue(DetailFormat.CAPITALIZED) String defaultDetailFormat,
+      @DefaultValue PrecomputedBodies precomputedBodies,
+      @DefaultValue Adapters adapters,
+      @DefaultValue Metrics metrics,
+      @DefaultValue Filter filter,
+      @DefaultValue Validation validation,
+      @DefaultValue Map<String, Mapping> mappings,
+      @DefaultValue Compression compression,
+      @DefaultValue Catalog catalog,
+      @DefaultValue RetryAfter retryAfter) {
     this.loggingEnabled = loggingEnabled;
+    this.logging = logging;
     this.defaultDetailFormat = defaultDetailFormat;
+    this.precomputedBodies = precomputedBodies;
+    this.adapters = adapters;
+    this.metrics = metrics;
+    this.filter = filter;
+    this.validation = validation;
+    this.mappings = mappings;
+    this.compression = compression;
+    this.catalog = catalog;
+    this.retryAfter = retryAfter;
   }
 
   public boolean isLoggingEnabled() {
     return loggingEnabled;
   }
 
+  public Logging getLogging() {
+    return logging;
+  }
+
   public String getDefaultDetailFormat() {
     return defaultDetailFormat;
   }
+
+  public PrecomputedBodies getPrecomputedBodies() {
+    return precomputedBodies;
+  }
+
+  public Adapters getAdapters() {
+    return adapters;
+  }
+
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  public Filter getFilter() {
+    return filter;
+  }
+
+  public Validation getValidation() {
+    return validation;
+  }
+
+  /** Mappings of exceptions, keyed by fully qualified exception class name. */
+  public Map<String, Mapping> getMappings() {
+    return mappings;
+  }
+
+  public Compression getCompression() {
+    return compression;
+  }
+
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  public RetryAfter getRetryAfter() {
+    return retryAfter;
+  }
+
+  public static class Logging {
+
+    private final LoggingMode mode;
+    private final RateLimit rateLimit;
+    private final double sampleRate;
+    private final Duration summaryInterval;
+    private final boolean includeQueryString;
+    private final int maxQueryStringLength;
+
+    public Logging(
+        @DefaultValue("individual") LoggingMode mode,
+        @DefaultValue RateLimit rateLimit,
+        @DefaultValue("1.0") double sampleRate,
+        @DefaultValue("1m") Duration summaryInterval,
+        @DefaultValue("true") boolean includeQueryString,
+        @DefaultValue("-1") int maxQueryStringLength) {
+      this.mode = mode;
+      this.rateLimit = rateLimit;
+      this.sampleRate = sampleRate;
+      this.summaryInterval = summaryInterval;
+      this.includeQueryString = includeQueryString;
+      this.maxQueryStringLength = maxQueryStringLength;
+    }
+
+    public LoggingMode getMode() {
+      return mode;
+    }
+
+    public RateLimit getRateLimit() {
+      return rateLimit;
+    }
+
+    public double getSampleRate() {
+      return sampleRate;
+    }
+
+    public Duration getSummaryInterval() {
+      return summaryInterval;
+    }
+
+    public boolean isIncludeQueryString() {
+      return includeQueryString;
+    }
+
+    public int getMaxQueryStringLength() {
+      return maxQueryStringLength;
+    }
+
+    /** Whether any of rate limiting or sampling is configured. */
+    public boolean isLimited() {
+      return rateLimit.isEnabled() || sampleRate < 1.0;
+    }
+  }
+
+  public enum LoggingMode {
+
+    /** Each exception is logged separately. */
+    INDIVIDUAL,
+
+    /** Exceptions are counted and periodically logged in groups. */
+    AGGREGATED
+  }
+
+  public static class RateLimit {
+
+    private final boolean enabled;
+    private final double permitsPerSecond;
+    private final int burst;
+
+    public RateLimit(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") double permitsPerSecond,
+        @DefaultValue("20") int burst) {
+      this.enabled = enabled;
+      this.permitsPerSecond = permitsPerSecond;
+      this.burst = burst;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public double getPermitsPerSecond() {
+      return permitsPerSecond;
+    }
+
+    public int getBurst() {
+      return burst;
+    }
+  }
+
+  public static class PrecomputedBodies {
+
+    private final boolean enabled;
+
+    public PrecomputedBodies(@DefaultValue("false") boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  public static class Adapters {
+
+    private final Async async;
+
+    public Adapters(@DefaultValue Async async) {
+      this.async = async;
+    }
+
+    public Async getAsync() {
+      return async;
+    }
+  }
+
+  public static class Async {
+
+    private final AsyncMode mode;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final double sampleRate;
+    private final int threads;
+    private final boolean virtualThreads;
+
+    public Async(
+        @DefaultValue("annotated") AsyncMode mode,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("drop") OverflowPolicy overflowPolicy,
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("2") int threads,
+        @DefaultValue("true") boolean virtualThreads) {
+      this.mode = mode;
+      this.queueCapacity = queueCapacity;
+      this.overflowPolicy = overflowPolicy;
+      this.sampleRate = sampleRate;
+      this.threads = threads;
+      this.virtualThreads = virtualThreads;
+    }
+
+    public AsyncMode getMode() {
+      return mode;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+      return overflowPolicy;
+    }
+
+    public double getSampleRate() {
+      return sampleRate;
+    }
+
+    public int getThreads() {
+      return threads;
+    }
+
+    public boolean isVirtualThreads() {
+      return virtualThreads;
+    }
+  }
+
+  public static class Metrics {
+
+    private final boolean enabled;
+    private final int maxTypes;
+
+    public Metrics(@DefaultValue("true") boolean enabled, @DefaultValue("100") int maxTypes) {
+      this.enabled = enabled;
+      this.maxTypes = maxTypes;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public int getMaxTypes() {
+      return maxTypes;
+    }
+  }
+
+  public static class Filter {
+
+    private final boolean enabled;
+
+    public Filter(@DefaultValue("false") boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  public static class Validation {
+
+    private final int maxErrors;
+    private final boolean fullPath;
+
+    public Validation(@DefaultValue("-1") int maxErrors, @DefaultValue("false") boolean fullPath) {
+      this.maxErrors = maxErrors;
+      this.fullPath = fullPath;
+    }
+
+    public int getMaxErrors() {
+      return maxErrors;
+    }
+
+    public boolean isFullPath() {
+      return fullPath;
+    }
+  }
+
+  public static class Mapping {
+
+    private final int status;
+    private final String title;
+    private final String detail;
+    private final URI type;
+
+    /**
+     * @param detail detail of problems, in which {@code {message}} is replaced with exception
+     *     message; {@code null} if problems should have no detail
+     */
+    public Mapping(@DefaultValue("500") int status, String title, String detail, URI type) {
+      this.status = status;
+      this.title = title;
+      this.detail = detail;
+      this.type = type;
+    }
+
+    public int getStatus() {
+      return status;
+    }
+
+    public String getTitle() {
+      return title;
+    }
+
+    public String getDetail() {
+      return detail;
+    }
+
+    public URI getType() {
+      return type;
+    }
+  }
+
+  public static class Compression {
+
+    private final boolean enabled;
+    private final DataSize minSize;
+
+    public Compression(
+        @DefaultValue("false") boolean enabled, @DefaultValue("2KB") DataSize minSize) {
+      this.enabled = enabled;
+      this.minSize = minSize;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public DataSize getMinSize() {
+      return minSize;
+    }
+  }
+
+  public static class Catalog {
+
+    private final boolean enabled;
+    private final String path;
+    private final Duration maxAge;
+    private final List<String> scanPackages;
+
+    /**
+     * @param scanPackages packages scanned for {@link DeclaredProblemType} exceptions; if empty,
+     *     packages of the application are scanned
+     */
+    public Catalog(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("/problem-types") String path,
+        @DefaultValue("1h") Duration maxAge,
+        @DefaultValue List<String> scanPackages) {
+      this.enabled = enabled;
+      this.path = path;
+      this.maxAge = maxAge;
+      this.scanPackages = scanPackages;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public Duration getMaxAge() {
+      return maxAge;
+    }
+
+    public List<String> getScanPackages() {
+      return scanPackages;
+    }
+  }
+
+  public static class RetryAfter {
+
+    private final Duration defaultDelay;
+    private final double jitter;
+
+    public RetryAfter(
+        @DefaultValue("0s") Duration defaultDelay, @DefaultValue("0.0") double jitter) {
+      this.defaultDelay = defaultDelay;
+      this.jitter = jitter;
+    }
+
+    public Duration getDefaultDelay() {
+      return defaultDelay;
+    }
+
+    public double getJitter() {
+      return jitter;
+    }
+  }
 }
@@ -5,12 +5,9 @@
 import io.github.malczuuu.problem4j.core.ProblemException;
 import io.github.malczuuu.problem4j.spring.web.formatting.DetailFormatting;
 import io.github.malczuuu.problem4j.spring.web.formatting.FieldNameFormatting;
-import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Path;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import org.springframework.beans.ConversionNotSupportedException;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpHeaders;
@@ -20,8 +17,10 @@
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.method.MethodValidationException;
+import org.springframework.validation.method.MethodValidationResult;
 import org.springframework.web.ErrorResponseException;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -44,17 +43,81 @@
 @RestControllerAdvice
 public class ProblemResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
 
-  private final DetailFormatting detailFormatting;
-  private final FieldNameFormatting fieldNameFormatting;
-  private final List<ExceptionAdapter> exceptionAdapters;
+  private final ViolationResolver violationResolver;
+  private final ExceptionAdapterDispatcher exceptionAdapterDispatcher;
+  private final ProblemTemplates problemTemplates;
+  private final PrecomputedProblemBodies precomputedProblemBodies;
+  private final ProblemMappingRegistry problemMappingRegistry;
+  private final ErrorResponseProblems errorResponseProblems;
+  private final ProblemBodyCompression problemBodyCompression;
+  private final ProblemContentNegotiation problemContentNegotiation;
+  private final RetryAfterHeaders retryAfterHeaders;
+
+  // constant details formatted once, instead of on each handled exception
+  private final String validationFailedDetail;
+  private final String missingPathVariableDetail;
+  private final String missingRequestParamDetail;
+  private final String missingRequestPartDetail;
+  private final String maxUploadSizeExceededDetail;
+  private final String typeMismatchDetail;
 
   public ProblemResponseEntityExceptionHandler(
       DetailFormatting detailFormatting,
       FieldNameFormatting fieldNameFormatting,
       List<ExceptionAdapter> exceptionAdapters) {
-    this.detailFormatting = detailFormatting;
-    this.fieldNameFormatting = fieldNameFormatting;
-    this.exceptionAdapters = exceptionAdapters;
+    this(
+        detailFormatting,
+        new ViolationResolver(fieldNameFormatting),
+        exceptionAdapters,
+        new ProblemTemplates(),
+        null,
+        List.of(),
+        new ProblemMappingRegistry(),
+        null,
+        null,
+        new RetryAfterHeaders(Duration.ZERO, 0.0));
+  }
+
+  /**
+   * @param violationResolver resolver of {@code errors} extension of validation problems
+   * @param precomputedProblemBodies serialized bodies of {@code problemTemplates} problems, written
+   *     directly to responses; {@code null} if responses should always be serialized
+   * @param contextAccessors accessors of thread-bound values captured into {@link
+   *     ExceptionContext} passed to adapters, in addition to MDC and request attributes
+   * @param problemMappingRegistry mappings of exceptions not handled by any other handler method
+   * @param problemBodyCompression compression of problem bodies; {@code null} if problem bodies
+   *     should not be compressed
+   * @param problemContentNegotiation negotiation of binary problem encodings; {@code null} if
+   *     problems should always be written as JSON
+   * @param retryAfterHeaders writer of {@code Retry-After} and {@code RateLimit-*} headers
+   */
+  public ProblemResponseEntityExceptionHandler(
+      DetailFormatting detailFormatting,
+      ViolationResolver violationResolver,
+      List<ExceptionAdapter> exceptionAdapters,
+      ProblemTemplates problemTemplates,
+      PrecomputedProblemBodies precomputedProblemBodies,
+      List<ExceptionContextAccessor<?>> contextAccessors,
+      ProblemMappingRegistry problemMappingRegistry,
+      ProblemBodyCompression problemBodyCompression,
+      ProblemContentNegotiation problemContentNegotiation,
+      RetryAfterHeaders retryAfterHeaders) {
+    this.violationResolver = violationResolver;
+    this.exceptionAdapterDispatcher =
+        new ExceptionAdapterDispatcher(exceptionAdapters, contextAccessors);
+    this.problemTemplates = problemTemplates;
+    this.precomputedProblemBodies = precomputedProblemBodies;
+    this.problemMappingRegistry = problemMappingRegistry;
+    this.errorResponseProblems = new ErrorResponseProblems(problemTemplates);
+    this.problemBodyCompression = problemBodyCompression;
+    this.problemContentNegotiation = problemContentNegotiation;
+    this.retryAfterHeaders = retryAfterHeaders;
+    this.validationFailedDetail = detailFormatting.format("Validation failed");
+    this.missingPathVariableDetail = detailFormatting.format("Missing path variable");
+    this.missingRequestParamDetail = detailFormatting.format("Missing request param");
+    this.missingRequestPartDetail = detailFormatting.format("Missing request part");
+    this.maxUploadSizeExceededDetail = detailFormatting.format("Max upload size exceeded");
+    this.typeMismatchDetail = detailFormatting.format("Type mismatch");
   }
 
   @ExceptionHandler({ProblemException.class})
@@ -69,56 +132,57 @@ public ResponseEntity<Object> handleProblemException(ProblemException ex, WebReq
   public ResponseEntity<Object> handleConstraintViolationException(
       ConstraintViolationException ex, WebRequest request) {
     HttpStatus status = HttpStatus.BAD_REQUEST;
-    List<Violation> errors =
-        ex.getConstraintViolations().stream()
-            .map(
-                violation ->
-                    new Violation(
-                        fieldNameFormatting.format(fetchViolationProperty(violation)),
-                        violation.getMessage()))
-            .toList();
+    ViolationList errors = violationResolver.resolve(ex.getConstraintViolations());
 
     ProblemBuilder builder =
         Problem.builder()
-            .title(status.getReasonPhrase())
+            .title(getReasonPhrase(status))
             .status(status.value())
-            .title(detailFormatting.format("Validation failed"))
-            .extension("errors", errors);
+            .detail(validationFailedDetail);
+    builder = violationResolver.extend(builder, errors);
     return handleExceptionInternal(ex, builder.build(), new HttpHeaders(), status, request);
   }
 
   @ExceptionHandler({Exception.class})
   public ResponseEntity<Object> handleOtherException(Exception ex, WebRequest request) {
-    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
-    ProblemBuilder builder =
-        Problem.builder().title(status.getReasonPhrase()).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), new HttpHeaders(), status, request);
-  }
-
-  private String getReasonPhrase(HttpStatusCode statusCode) {
-    if (statusCode instanceof HttpStatus status) {
-      return status.getReasonPhrase();
-    }
-
-    HttpStatus status = HttpStatus.resolve(statusCode.value());
-    if (status != null) {
-      return status.getReasonPhrase();
+    ProblemMapping<Exception> mapping = problemMappingRegistry.find(ex);
+    if (mapping != null) {
+      Problem problem = mapping.toProblem(ex, problemTemplates);
+      return handleExceptionInternal(ex, problem, new HttpHeaders(), mapping.getStatus(), request);
     }
 
-    return "";
+    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+    return handleExceptionInternal(
+        ex, problemTemplates.get(status), new HttpHeaders(), status, request);
   }
 
-  private String fetchViolationProperty(ConstraintViolation<?> violation) {
-    if (violation.getPropertyPath() == null) {
-      return "";
+  /**
+   * Maps given exception to a response the same way as if it was thrown from a controller. Meant
+   * for exceptions that never reach {@code DispatcherServlet}, see {@link ProblemExceptionFilter}.
+   */
+  public ResponseEntity<Object> resolveException(Exception ex, WebRequest request) {
+    if (ex instanceof ProblemException problemException) {
+      return handleProblemException(problemException, request);
+    }
+    if (ex instanceof ConstraintViolationException constraintViolationException) {
+      return handleConstraintViolationException(constraintViolationException, request);
     }
 
-    String lastElement = null;
-    for (Path.Node node : violation.getPropertyPath()) {
-      lastElement = node.getName();
+    ResponseEntity<Object> response;
+    try {
+      response = handleException(ex, request);
+    } catch (Exception e) {
+      if (e != ex) {
+        ReflectionUtils.rethrowRuntimeException(e);
+      }
+      // not one of Spring MVC exceptions, rethrown as is by base class
+      response = null;
     }
+    return response != null ? response : handleOtherException(ex, request);
+  }
 
-    return lastElement != null ? lastElement : "";
+  private String getReasonPhrase(HttpStatusCode statusCode) {
+    return problemTemplates.getReasonPhrase(statusCode);
   }
 
   @Override
@@ -128,9 +192,7 @@ protected ResponseEntity<Object> handleHttpRequestMethodNotSupported(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.METHOD_NOT_ALLOWED;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -140,9 +202,7 @@ protected ResponseEntity<Object> handleHttpMediaTypeNotSupported(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.UNSUPPORTED_MEDIA_TYPE;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -152,9 +212,7 @@ protected ResponseEntity<Object> handleHttpMediaTypeNotAcceptable(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.NOT_ACCEPTABLE;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -168,7 +226,7 @@ protected ResponseEntity<Object> handleMissingPathVariable(
         Problem.builder()
             .title(getReasonPhrase(status))
             .status(status.value())
-            .detail(detailFormatting.format("Missing path variable"))
+            .detail(missingPathVariableDetail)
             .extension("name", ex.getVariableName());
     return handleExceptionInternal(ex, builder.build(), headers, status, request);
   }
@@ -184,7 +242,7 @@ protected ResponseEntity<Object> handleMissingServletRequestParameter(
         Problem.builder()
             .title(getReasonPhrase(status))
             .status(status.value())
-            .detail(detailFormatting.format("Missing request param"))
+            .detail(missingRequestParamDetail)
             .extension("param", ex.getParameterName())
             .extension("type", ex.getParameterType().toLowerCase());
     return handleExceptionInternal(ex, builder.build(), headers, status, request);
@@ -201,7 +259,7 @@ protected ResponseEntity<Object> handleMissingServletRequestPart(
         Problem.builder()
             .title(getReasonPhrase(status))
             .status(status.value())
-            .detail(detailFormatting.format("Missing request part"))
+            .detail(missingRequestPartDetail)
             .extension("param", ex.getRequestPartName());
     return handleExceptionInternal(ex, builder.build(), headers, status, request);
   }
@@ -213,9 +271,7 @@ protected ResponseEntity<Object> handleServletRequestBindingException(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.BAD_REQUEST;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -231,20 +287,8 @@ protected ResponseEntity<Object> handleMethodArgumentNotValid(
   }
 
   private ProblemBuilder from(BindingResult bindingResult) {
-    ArrayList<Violation> details = new ArrayList<>();
-    bindingResult
-        .getFieldErrors()
-        .forEach(
-            f ->
-                details.add(
-                    new Violation(
-                        fieldNameFormatting.format(f.getField()), f.getDefaultMessage())));
-    bindingResult
-        .getGlobalErrors()
-        .forEach(g -> details.add(new Violation(null, g.getDefaultMessage())));
-    return Problem.builder()
-        .detail(detailFormatting.format("Validation failed"))
-        .extension("errors", details);
+    ProblemBuilder builder = Problem.builder().detail(validationFailedDetail);
+    return violationResolver.extend(builder, violationResolver.resolve(bindingResult));
   }
 
   @Override
@@ -253,27 +297,21 @@ protected ResponseEntity<Object> handleHandlerMethodValidationException(
       HttpHeaders headers,
       HttpStatusCode status,
       WebRequest request) {
-    Problem body = Problem.builder().title(getReasonPhrase(status)).status(status.value()).build();
-    // TODO: debug how to extract validation violations
-    return handleExceptionInternal(ex, body, headers, status, request);
+    return handleExceptionInternal(ex, from(ex, status), headers, status, request);
   }
 
   @Override
   protected ResponseEntity<Object> handleNoHandlerFoundException(
       NoHandlerFoundException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
     status = HttpStatus.NOT_FOUND;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
   protected ResponseEntity<Object> handleNoResourceFoundException(
       NoResourceFoundException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
     status = HttpStatus.NOT_FOUND;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -283,30 +321,14 @@ protected ResponseEntity<Object> handleAsyncRequestTimeoutException(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.INTERNAL_SERVER_ERROR;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
   protected ResponseEntity<Object> handleErrorResponseException(
       ErrorResponseException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
-    ProblemBuilder builder =
-        Problem.builder()
-            .title(getReasonPhrase(status))
-            .status(status.value())
-            .detail(ex.getBody().getDetail())
-            .instance(ex.getBody().getInstance());
-
-    if (ex.getBody().getProperties() != null) {
-      for (Map.Entry<String, Object> entry : ex.getBody().getProperties().entrySet()) {
-        String key = entry.getKey();
-        Object value = entry.getValue();
-        builder = builder.extension(key, value);
-      }
-    }
-
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    Problem problem = errorResponseProblems.toProblem(ex, status);
+    return handleExceptionInternal(ex, problem, headers, status, request);
   }
 
   @Override
@@ -320,7 +342,7 @@ protected ResponseEntity<Object> handleMaxUploadSizeExceededException(
         Problem.builder()
             .title(getReasonPhrase(status))
             .status(status.value())
-            .detail(detailFormatting.format("Max upload size exceeded"))
+            .detail(maxUploadSizeExceededDetail)
             .extension("max", ex.getMaxUploadSize());
     return handleExceptionInternal(ex, builder.build(), headers, status, request);
   }
@@ -332,9 +354,7 @@ protected ResponseEntity<Object> handleConversionNotSupported(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.INTERNAL_SERVER_ERROR;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -345,7 +365,7 @@ protected ResponseEntity<Object> handleTypeMismatch(
         Problem.builder()
             .title(getReasonPhrase(status))
             .status(status.value())
-            .detail(detailFormatting.format("Type mismatch"));
+            .detail(typeMismatchDetail);
 
     if (ex.getPropertyName() != null) {
       builder = builder.extension("property", ex.getPropertyName());
@@ -363,9 +383,7 @@ protected ResponseEntity<Object> handleHttpMessageNotReadable(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.BAD_REQUEST;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
@@ -375,31 +393,70 @@ protected ResponseEntity<Object> handleHttpMessageNotWritable(
       HttpStatusCode status,
       WebRequest request) {
     status = HttpStatus.INTERNAL_SERVER_ERROR;
-    ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+    return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, request);
   }
 
   @Override
   protected ResponseEntity<Object> handleMethodValidationException(
       MethodValidationException ex, HttpHeaders headers, HttpStatus status, WebRequest request) {
+    return handleExceptionInternal(ex, from(ex, status), headers, status, request);
+  }
+
+  /**
+   * Builds validation problem with {@code errors} of method parameters, or returns bare problem if
+   * there are no parameter errors (e.g. if return value failed validation).
+   */
+  private Problem from(MethodValidationResult result, HttpStatusCode status) {
+    ViolationList errors = violationResolver.resolve(result);
+    if (errors.getTotalCount() == 0) {
+      return problemTemplates.get(status);
+    }
+
     ProblemBuilder builder =
-        Problem.builder().title(getReasonPhrase(status)).status(status.value());
-    return handleExceptionInternal(ex, builder.build(), headers, status, request);
+        Problem.builder()
+            .title(getReasonPhrase(status))
+            .status(status.value())
+            .detail(validationFailedDetail);
+    return violationResolver.extend(builder, errors).build();
   }
 
   @Override
   protected ResponseEntity<Object> handleExceptionInternal(
       Exception ex, Object body, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
     headers = new HttpHeaders(headers);
-    Object finalBody =
-        body != null
-            ? body
-            : Problem.builder().title(getReasonPhrase(status)).status(status.value()).build();
-    if (body instanceof Problem) {
+    Object finalBody = body != null ? body : problemTemplates.get(status);
+    if (body instanceof Problem problem) {
       headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+      retryAfterHeaders.apply(ex, problem, headers);
+    }
+    exceptionAdapterDispatcher.dispatch(request, ex, finalBody);
+    if (problemContentNegotiation != null
+        && problemContentNegotiation.hasBinaryEncodings()
+        && body instanceof Problem) {
+      headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+      MediaType mediaType = problemContentNegotiation.select(request.getHeader(HttpHeaders.ACCEPT));
+      byte[] encodedBody =
+          mediaType != null ? problemContentNegotiation.write(mediaType, body) : null;
+      if (encodedBody != null) {
+        headers.setContentType(mediaType);
+        return super.handleExceptionInternal(ex, encodedBody, headers, status, request);
+      }
+    }
+    Object responseBody = body;
+    if (precomputedProblemBodies != null) {
+      byte[] precomputedBody = precomputedProblemBodies.find(body);
+      if (precomputedBody != null) {
+        responseBody = precomputedBody;
+      }
+    }
+    if (problemBodyCompression != null && body instanceof Problem) {
+      String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+      byte[] compressedBody =
+          problemBodyCompression.compress(responseBody, acceptEncoding, headers);
+      if (compressedBody != null) {
+        responseBody = compressedBody;
+      }
     }
-    exceptionAdapters.forEach(e -> e.adapt(request, ex, finalBody));
-    return super.handleExceptionInternal(ex, body, headers, status, request);
+    return super.handleExceptionInternal(ex, responseBody, headers, status, request);
   }
 }
@@ -0,0 +1,63 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Registry of immutable {@link Problem} instances consisting only of {@code status} and {@code
+ * title}, built once for every {@link HttpStatus}. Handlers that do not add any details or
+ * extensions can return these instances instead of building the same problem on every request.
+ */
+public final class ProblemTemplates {
+
+  private static final int MAX_STATUS_CODE = 999;
+
+  private final Problem[] problems;
+  private final HttpStatus[] statusesByCode;
+
+  public ProblemTemplates() {
+    HttpStatus[] statuses = HttpStatus.values();
+
+    problems = new Problem[statuses.length];
+    for (HttpStatus status : statuses) {
+      problems[status.ordinal()] =
+          Problem.builder().title(status.getReasonPhrase()).status(status.value()).build();
+    }
+
+    // iterating backwards, so that the first declared constant wins, same as in HttpStatus.resolve
+    statusesByCode = new HttpStatus[MAX_STATUS_CODE + 1];
+    for (int i = statuses.length - 1; i >= 0; i--) {
+      statusesByCode[statuses[i].value()] = statuses[i];
+    }
+  }
+
+  /**
+   * Returns problem with {@code status} and {@code title} matching given status code. Problems for
+   * status codes not declared in {@link HttpStatus} are built on each call, with an empty title.
+   */
+  public Problem get(HttpStatusCode statusCode) {
+    HttpStatus status = resolve(statusCode);
+    if (status != null) {
+      return problems[status.ordinal()];
+    }
+    return Problem.builder().title("").status(statusCode.value()).build();
+  }
+
+  /**
+   * Returns reason phrase of given status code or an empty string if status code is not declared in
+   * {@link HttpStatus}.
+   */
+  public String getReasonPhrase(HttpStatusCode statusCode) {
+    HttpStatus status = resolve(statusCode);
+    return status != null ? status.getReasonPhrase() : "";
+  }
+
+  private HttpStatus resolve(HttpStatusCode statusCode) {
+    if (statusCode instanceof HttpStatus status) {
+      return status;
+    }
+    int value = statusCode.value();
+    return value >= 0 && value <= MAX_STATUS_CODE ? statusesByCode[value] : null;
+  }
+}
@@ -0,0 +1,26 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Stores the moment exception resolution starts, for {@link MetricsExceptionAdapter} to measure
+ * handling time. Runs before any other resolver and never resolves the exception itself.
+ */
+public class ProblemTimingExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+  @Override
+  public ModelAndView resolveException(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    request.setAttribute(MetricsExceptionAdapter.START_TIME_ATTRIBUTE, System.nanoTime());
+    return null;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
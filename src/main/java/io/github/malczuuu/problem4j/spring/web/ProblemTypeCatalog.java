@@ -0,0 +1,85 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Problem types declared by the application, rendered to JSON once, together with strong {@code
+ * ETag} of rendered catalog. Types are sorted, so that the same declarations yield the same catalog
+ * and {@code ETag} on every application instance.
+ */
+public class ProblemTypeCatalog {
+
+  private final List<Entry> entries;
+  private final byte[] body;
+  private final String etag;
+
+  /**
+   * @param entries declared problem types; of entries with the same type, the first one is kept
+   */
+  public ProblemTypeCatalog(ObjectMapper objectMapper, Collection<Entry> entries) {
+    Map<URI, Entry> entriesByType = new LinkedHashMap<>();
+    for (Entry entry : entries) {
+      entriesByType.putIfAbsent(entry.type(), entry);
+    }
+    List<Entry> sortedEntries = new ArrayList<>(entriesByType.values());
+    sortedEntries.sort(Comparator.comparing(entry -> entry.type().toString()));
+
+    this.entries = List.copyOf(sortedEntries);
+    this.body = render(objectMapper, this.entries);
+    this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+  }
+
+  private static byte[] render(ObjectMapper objectMapper, List<Entry> entries) {
+    List<Map<String, Object>> types = new ArrayList<>(entries.size());
+    for (Entry entry : entries) {
+      Map<String, Object> type = new LinkedHashMap<>();
+      type.put("type", entry.type().toString());
+      if (entry.title() != null) {
+        type.put("title", entry.title());
+      }
+      if (entry.status() != 0) {
+        type.put("status", entry.status());
+      }
+      if (entry.description() != null) {
+        type.put("description", entry.description());
+      }
+      types.add(type);
+    }
+
+    try {
+      return objectMapper.writeValueAsBytes(Map.of("types", types));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Problem type catalog could not be rendered", e);
+    }
+  }
+
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  /** Returns catalog rendered to JSON. Returned array is shared and must not be modified. */
+  public byte[] getBody() {
+    return body;
+  }
+
+  /** Returns strong entity tag of rendered catalog, already quoted. */
+  public String getEtag() {
+    return etag;
+  }
+
+  /**
+   * @param title title of problems, {@code null} if unknown
+   * @param status HTTP status of problems, {@code 0} if not constant
+   * @param description description of problem type, {@code null} if none
+   */
+  public record Entry(URI type, String title, int status, String description) {}
+}
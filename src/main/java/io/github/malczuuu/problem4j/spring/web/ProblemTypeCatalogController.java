@@ -0,0 +1,36 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.time.Duration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Serves {@link ProblemTypeCatalog} with its {@code ETag} and {@code Cache-Control}, so that
+ * clients and gateways can cache it. Requests with matching {@code If-None-Match} header are
+ * answered with {@code 304 Not Modified} by Spring MVC.
+ */
+@RestController
+@RequestMapping("${problem4j.catalog.path:/problem-types}")
+public class ProblemTypeCatalogController {
+
+  private final ProblemTypeCatalog problemTypeCatalog;
+  private final CacheControl cacheControl;
+
+  public ProblemTypeCatalogController(ProblemTypeCatalog problemTypeCatalog, Duration maxAge) {
+    this.problemTypeCatalog = problemTypeCatalog;
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+  }
+
+  @GetMapping
+  public ResponseEntity<byte[]> getProblemTypeCatalog() {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(problemTypeCatalog.getEtag())
+        .cacheControl(cacheControl)
+        .body(problemTypeCatalog.getBody());
+  }
+}
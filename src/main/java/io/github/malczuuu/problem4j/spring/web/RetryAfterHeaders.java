@@ -0,0 +1,95 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Adds {@code Retry-After} and {@code RateLimit-*} headers to problem responses, so that clients
+ * back off instead of retrying overloaded service immediately. Values come from {@link
+ * RetryableProblemException}, or from {@code retryAfter} (seconds) and {@code rateLimit} (object
+ * with {@code limit}, {@code remaining} and {@code reset} seconds) extensions of the problem.
+ * Headers already present in the response are kept.
+ *
+ * <p>Optional jitter adds random part of up to given fraction of the delay to {@code Retry-After},
+ * so that clients rejected at the same moment do not retry at the same moment either.
+ */
+public class RetryAfterHeaders {
+
+  public static final String RETRY_AFTER_EXTENSION = "retryAfter";
+  public static final String RATE_LIMIT_EXTENSION = "rateLimit";
+
+  static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+  static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+  static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+  private final Duration defaultDelay;
+  private final double jitter;
+
+  /**
+   * @param defaultDelay delay used for {@code 429} and {@code 503} problems without one; {@link
+   *     Duration#ZERO} if such problems should not get {@code Retry-After} header
+   * @param jitter maximum fraction of the delay added to it at random, {@code 0.0} for no jitter
+   */
+  public RetryAfterHeaders(Duration defaultDelay, double jitter) {
+    this.defaultDelay = defaultDelay;
+    this.jitter = jitter;
+  }
+
+  public void apply(Exception ex, Problem problem, HttpHeaders headers) {
+    RetryableProblemException retryable = ex instanceof RetryableProblemException e ? e : null;
+
+    if (!headers.containsKey(HttpHeaders.RETRY_AFTER)) {
+      long delay = resolveDelay(retryable, problem);
+      if (delay > 0) {
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(withJitter(delay)));
+      }
+    }
+
+    if (!headers.containsKey(RATE_LIMIT_LIMIT)) {
+      if (retryable != null && retryable.getRateLimit() != null) {
+        RetryableProblemException.RateLimit rateLimit = retryable.getRateLimit();
+        setRateLimit(
+            headers, rateLimit.limit(), rateLimit.remaining(), toSeconds(rateLimit.reset()));
+      } else if (problem.getExtensionValue(RATE_LIMIT_EXTENSION) instanceof Map<?, ?> rateLimit
+          && rateLimit.get("limit") instanceof Number limit
+          && rateLimit.get("remaining") instanceof Number remaining
+          && rateLimit.get("reset") instanceof Number reset) {
+        setRateLimit(headers, limit.longValue(), remaining.longValue(), reset.longValue());
+      }
+    }
+  }
+
+  private long resolveDelay(RetryableProblemException retryable, Problem problem) {
+    if (retryable != null && retryable.getRetryAfter() != null) {
+      return toSeconds(retryable.getRetryAfter());
+    }
+    if (problem.getExtensionValue(RETRY_AFTER_EXTENSION) instanceof Number retryAfter) {
+      return retryAfter.longValue();
+    }
+    if (problem.getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()
+        || problem.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+      return toSeconds(defaultDelay);
+    }
+    return 0;
+  }
+
+  private long withJitter(long delay) {
+    long maxJitter = (long) (delay * jitter);
+    return maxJitter > 0 ? delay + ThreadLocalRandom.current().nextLong(maxJitter + 1) : delay;
+  }
+
+  private static long toSeconds(Duration duration) {
+    long seconds = duration.getSeconds();
+    return duration.getNano() > 0 ? seconds + 1 : seconds;
+  }
+
+  private static void setRateLimit(HttpHeaders headers, long limit, long remaining, long reset) {
+    headers.set(RATE_LIMIT_LIMIT, String.valueOf(limit));
+    headers.set(RATE_LIMIT_REMAINING, String.valueOf(remaining));
+    headers.set(RATE_LIMIT_RESET, String.valueOf(reset));
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemException;
+import java.time.Duration;
+
+/**
+ * {@link ProblemException} for overload problems (e.g. {@code 429 Too Many Requests} or {@code 503
+ * Service Unavailable}), telling clients when to retry. Its delay is written as {@code
+ * Retry-After} header and its rate limit as {@code RateLimit-Limit}, {@code RateLimit-Remaining}
+ * and {@code RateLimit-Reset} headers, see {@link RetryAfterHeaders}.
+ */
+public class RetryableProblemException extends ProblemException {
+
+  private final Duration retryAfter;
+  private final transient RateLimit rateLimit;
+
+  public RetryableProblemException(Problem problem, Duration retryAfter) {
+    this(problem, retryAfter, null);
+  }
+
+  /**
+   * @param retryAfter delay after which clients may retry
+   * @param rateLimit state of rate limit exceeded by client; {@code null} if not applicable
+   */
+  public RetryableProblemException(Problem problem, Duration retryAfter, RateLimit rateLimit) {
+    super(problem);
+    this.retryAfter = retryAfter;
+    this.rateLimit = rateLimit;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+
+  public RateLimit getRateLimit() {
+    return rateLimit;
+  }
+
+  /**
+   * @param limit number of requests allowed in current window
+   * @param remaining number of requests remaining in current window
+   * @param reset time until current window resets
+   */
+  public record RateLimit(long limit, long remaining, Duration reset) {}
+}
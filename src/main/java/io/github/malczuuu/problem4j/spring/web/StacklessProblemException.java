@@ -0,0 +1,26 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemException;
+
+/**
+ * {@link ProblemException} that does not capture stack trace, meant for problems thrown as part of
+ * regular control flow (e.g. {@code 404 Not Found} or {@code 409 Conflict}), where stack trace is
+ * not useful but capturing it dominates the cost of throwing.
+ *
+ * <p>As the exception carries no call site information, instances for constant problems can be
+ * created once (e.g. kept in a {@code static final} field) and thrown repeatedly. Such shared
+ * instances should not be used with {@link #addSuppressed(Throwable)} or {@link
+ * #initCause(Throwable)}, as these mutate the exception.
+ */
+public class StacklessProblemException extends ProblemException {
+
+  public StacklessProblemException(Problem problem) {
+    super(problem);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
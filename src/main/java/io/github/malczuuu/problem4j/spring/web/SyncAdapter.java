@@ -0,0 +1,20 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks {@link ExceptionAdapter} to be always called on the thread handling the exception, even if
+ * all adapters are configured to be called asynchronously (see {@link
+ * AsyncExceptionAdapter.AsyncMode#ALL}). Meant for adapters reading the request, which the servlet
+ * container may recycle once the response is completed, or measuring time of handling the
+ * exception, which would include waiting in the queue of {@link AsyncExceptionAdapterExecutor}.
+ * Takes precedence over {@link AsyncAdapter}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SyncAdapter {}
@@ -0,0 +1,88 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read-only list of {@link Violation}s computed on access from validation errors it is backed by.
+ * Serialized by {@link ViolationListSerializer}, which writes field names and messages straight
+ * from validation errors, so that large validation failures do not need a {@link Violation} object
+ * per error in memory.
+ */
+@JsonSerialize(using = ViolationListSerializer.class)
+public final class ViolationList extends AbstractList<Violation> implements Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private final transient List<?> errors;
+  private final transient Function<Object, String> fieldResolver;
+  private final transient Function<Object, String> messageResolver;
+  private final int totalCount;
+
+  /**
+   * @param errors validation errors (e.g. {@code FieldError} or {@code ConstraintViolation})
+   * @param fieldResolver returns formatted field name of given error, possibly {@code null}
+   * @param messageResolver returns message of given error
+   */
+  public <T> ViolationList(
+      List<? extends T> errors,
+      Function<? super T, String> fieldResolver,
+      Function<? super T, String> messageResolver) {
+    this(errors, fieldResolver, messageResolver, errors.size());
+  }
+
+  /**
+   * @param totalCount number of all validation errors, greater than size of {@code errors} if they
+   *     were truncated
+   */
+  @SuppressWarnings("unchecked")
+  public <T> ViolationList(
+      List<? extends T> errors,
+      Function<? super T, String> fieldResolver,
+      Function<? super T, String> messageResolver,
+      int totalCount) {
+    this.errors = errors;
+    this.fieldResolver = (Function<Object, String>) fieldResolver;
+    this.messageResolver = (Function<Object, String>) messageResolver;
+    this.totalCount = totalCount;
+  }
+
+  @Override
+  public Violation get(int index) {
+    return new Violation(getField(index), getError(index));
+  }
+
+  /** Returns field name of violation at given index without creating {@link Violation}. */
+  public String getField(int index) {
+    return fieldResolver.apply(errors.get(index));
+  }
+
+  /** Returns message of violation at given index without creating {@link Violation}. */
+  public String getError(int index) {
+    return messageResolver.apply(errors.get(index));
+  }
+
+  @Override
+  public int size() {
+    return errors.size();
+  }
+
+  /** Returns number of all validation errors, including the ones left out of this list. */
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  /** Whether some validation errors were left out of this list. */
+  public boolean isTruncated() {
+    return totalCount > errors.size();
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return List.copyOf(this);
+  }
+}
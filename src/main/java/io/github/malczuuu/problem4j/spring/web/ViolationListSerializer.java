@@ -0,0 +1,50 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes {@link ViolationList} as an array of {@code {"field": ..., "error": ...}} objects, same as
+ * a list of {@link Violation}s would be written, but without creating them.
+ */
+public class ViolationListSerializer extends StdSerializer<ViolationList> {
+
+  public ViolationListSerializer() {
+    super(ViolationList.class);
+  }
+
+  @Override
+  public void serialize(ViolationList value, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    boolean writeNulls = isWritingNulls(provider);
+    int size = value.size();
+
+    gen.writeStartArray(value, size);
+    for (int i = 0; i < size; i++) {
+      gen.writeStartObject();
+      writeField(gen, "field", value.getField(i), writeNulls);
+      writeField(gen, "error", value.getError(i), writeNulls);
+      gen.writeEndObject();
+    }
+    gen.writeEndArray();
+  }
+
+  private boolean isWritingNulls(SerializerProvider provider) {
+    JsonInclude.Include inclusion =
+        provider.getConfig().getDefaultPropertyInclusion(Violation.class).getValueInclusion();
+    return inclusion == JsonInclude.Include.ALWAYS
+        || inclusion == JsonInclude.Include.USE_DEFAULTS;
+  }
+
+  private void writeField(JsonGenerator gen, String name, String value, boolean writeNulls)
+      throws IOException {
+    if (value != null) {
+      gen.writeStringField(name, value);
+    } else if (writeNulls) {
+      gen.writeNullField(name);
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import io.github.malczuuu.problem4j.core.ProblemBuilder;
+import io.github.malczuuu.problem4j.spring.web.formatting.FieldNameFormatting;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
+
+/**
+ * Converts validation results into {@link Violation}s used as {@code errors} extension of
+ * validation problems, applying {@link FieldNameFormatting} to field names.
+ *
+ * <p>Number of resolved violations can be capped. Only the first {@code maxErrors} validation
+ * errors are visited (field errors before global errors, constraint violations in iteration order
+ * of their set), and the problem gets {@code truncated} and {@code totalErrors} extensions.
+ *
+ * <p>By default only the last property name of a violation is used as its {@code field}. With full
+ * paths enabled, the whole property path is rendered (e.g. {@code items[42].unit_price}), with
+ * {@link FieldNameFormatting} applied to each property name separately.
+ */
+public class ViolationResolver {
+
+  private final FieldNameFormatting fieldNameFormatting;
+  private final int maxErrors;
+  private final boolean fullPath;
+
+  public ViolationResolver(FieldNameFormatting fieldNameFormatting) {
+    this(fieldNameFormatting, -1, false);
+  }
+
+  /**
+   * @param maxErrors maximum number of resolved violations, negative for no limit
+   * @param fullPath whether to render full property paths instead of last property names
+   */
+  public ViolationResolver(
+      FieldNameFormatting fieldNameFormatting, int maxErrors, boolean fullPath) {
+    this.fieldNameFormatting = fieldNameFormatting;
+    this.maxErrors = maxErrors;
+    this.fullPath = fullPath;
+  }
+
+  /**
+   * Returns field errors followed by global errors of given binding result. Violations are computed
+   * on access, see {@link ViolationList}.
+   */
+  public ViolationList resolve(BindingResult bindingResult) {
+    int totalCount = bindingResult.getErrorCount();
+    int limit = limit(totalCount);
+
+    List<ObjectError> errors;
+    if (!bindingResult.hasGlobalErrors()) {
+      errors = bindingResult.getAllErrors();
+      errors = limit < errors.size() ? errors.subList(0, limit) : errors;
+    } else {
+      errors = new ArrayList<>(limit);
+      for (ObjectError error : bindingResult.getAllErrors()) {
+        if (errors.size() == limit) {
+          break;
+        }
+        if (error instanceof FieldError) {
+          errors.add(error);
+        }
+      }
+      for (ObjectError error : bindingResult.getGlobalErrors()) {
+        if (errors.size() == limit) {
+          break;
+        }
+        errors.add(error);
+      }
+    }
+    return new ViolationList(
+        errors, this::resolveField, ObjectError::getDefaultMessage, totalCount);
+  }
+
+  /** Returns violations of given constraint violations, computed on access. */
+  public ViolationList resolve(Set<? extends ConstraintViolation<?>> constraintViolations) {
+    int totalCount = constraintViolations.size();
+    int limit = limit(totalCount);
+
+    List<ConstraintViolation<?>> errors = new ArrayList<>(limit);
+    for (ConstraintViolation<?> violation : constraintViolations) {
+      if (errors.size() == limit) {
+        break;
+      }
+      errors.add(violation);
+    }
+    return new ViolationList(
+        errors,
+        this::resolveField,
+        ConstraintViolation::getMessage,
+        totalCount);
+  }
+
+  /**
+   * Returns violations of method parameters, in the same form as for binding results: errors of
+   * {@code @Valid} parameters are reported with their field names and other parameters with
+   * parameter names. Violations are resolved eagerly in a single pass over validation results.
+   */
+  public ViolationList resolve(MethodValidationResult methodValidationResult) {
+    List<ParameterValidationResult> results =
+        methodValidationResult.getParameterValidationResults();
+    int totalCount = 0;
+    for (ParameterValidationResult result : results) {
+      totalCount += result.getResolvableErrors().size();
+    }
+    int limit = limit(totalCount);
+
+    List<Violation> violations = new ArrayList<>(limit);
+    for (ParameterValidationResult result : results) {
+      if (violations.size() == limit) {
+        break;
+      }
+      if (result instanceof ParameterErrors errors) {
+        addParameterErrors(violations, errors, limit);
+      } else {
+        String field = resolveParameterField(result);
+        for (MessageSourceResolvable error : result.getResolvableErrors()) {
+          if (violations.size() == limit) {
+            break;
+          }
+          violations.add(new Violation(field, error.getDefaultMessage()));
+        }
+      }
+    }
+    return new ViolationList(violations, Violation::getField, Violation::getError, totalCount);
+  }
+
+  private void addParameterErrors(List<Violation> violations, ParameterErrors errors, int limit) {
+    boolean inContainer = errors.getContainerIndex() != null || errors.getContainerKey() != null;
+    String prefix = fullPath && inContainer ? resolveParameterField(errors) + "." : null;
+
+    // field errors first and global errors next, same as for binding results
+    for (MessageSourceResolvable error : errors.getResolvableErrors()) {
+      if (violations.size() == limit) {
+        return;
+      }
+      if (error instanceof FieldError fieldError) {
+        String field = resolveField(fieldError);
+        violations.add(
+            new Violation(prefix != null ? prefix + field : field, error.getDefaultMessage()));
+      }
+    }
+    for (MessageSourceResolvable error : errors.getResolvableErrors()) {
+      if (violations.size() == limit) {
+        return;
+      }
+      if (!(error instanceof FieldError)) {
+        violations.add(new Violation(null, error.getDefaultMessage()));
+      }
+    }
+  }
+
+  private String resolveParameterField(ParameterValidationResult result) {
+    MethodParameter parameter = result.getMethodParameter();
+    String name = parameter.getParameterName();
+    String field =
+        fieldNameFormatting.format(name != null ? name : "arg" + parameter.getParameterIndex());
+
+    if (result.getContainerIndex() != null) {
+      return field + "[" + result.getContainerIndex() + "]";
+    }
+    if (result.getContainerKey() != null) {
+      return field + "[" + result.getContainerKey() + "]";
+    }
+    return field;
+  }
+
+  /**
+   * Adds given violations as {@code errors} extension, followed by {@code truncated} and {@code
+   * totalErrors} extensions if some of validation errors were left out.
+   */
+  public ProblemBuilder extend(ProblemBuilder builder, ViolationList violations) {
+    builder = builder.extension("errors", violations);
+    if (violations.isTruncated()) {
+      builder =
+          builder.extension("truncated", true).extension("totalErrors", violations.getTotalCount());
+    }
+    return builder;
+  }
+
+  private int limit(int totalCount) {
+    return maxErrors >= 0 ? Math.min(maxErrors, totalCount) : totalCount;
+  }
+
+  private String resolveField(ObjectError error) {
+    if (!(error instanceof FieldError fieldError)) {
+      return null;
+    }
+    return fullPath
+        ? formatPath(fieldError.getField())
+        : fieldNameFormatting.format(fieldError.getField());
+  }
+
+  /**
+   * Applies formatting to each property name of path such as {@code items[42].unitPrice}, leaving
+   * bracketed indices and keys as they are. Field name formatting receives single names only.
+   */
+  private String formatPath(String path) {
+    int length = path.length();
+    StringBuilder result = new StringBuilder(length + 8);
+    int segmentStart = 0;
+    for (int i = 0; i < length; i++) {
+      char c = path.charAt(i);
+      if (c == '.' || c == '[') {
+        appendSegment(result, path, segmentStart, i);
+        int separatorEnd = c == '[' ? path.indexOf(']', i) : i;
+        if (separatorEnd < 0) {
+          separatorEnd = length - 1;
+        }
+        result.append(path, i, separatorEnd + 1);
+        i = separatorEnd;
+        segmentStart = separatorEnd + 1;
+      }
+    }
+    appendSegment(result, path, segmentStart, length);
+    return result.toString();
+  }
+
+  private void appendSegment(StringBuilder result, String path, int start, int end) {
+    if (end > start) {
+      result.append(fieldNameFormatting.format(path.substring(start, end)));
+    }
+  }
+
+  private String resolveField(ConstraintViolation<?> violation) {
+    if (violation.getPropertyPath() == null) {
+      return fieldNameFormatting.format("");
+    }
+    return fullPath
+        ? formatPath(violation.getPropertyPath())
+        : fieldNameFormatting.format(fetchViolationProperty(violation));
+  }
+
+  private String formatPath(Path path) {
+    StringBuilder result = new StringBuilder();
+    for (Path.Node node : path) {
+      ElementKind kind = node.getKind();
+      if (kind == ElementKind.METHOD
+          || kind == ElementKind.CONSTRUCTOR
+          || kind == ElementKind.CROSS_PARAMETER
+          || kind == ElementKind.RETURN_VALUE) {
+        continue;
+      }
+      if (node.isInIterable()) {
+        Object position = node.getIndex() != null ? node.getIndex() : node.getKey();
+        result.append('[').append(position != null ? position : "").append(']');
+      }
+      if (node.getName() != null && kind != ElementKind.CONTAINER_ELEMENT) {
+        if (!result.isEmpty()) {
+          result.append('.');
+        }
+        result.append(fieldNameFormatting.format(node.getName()));
+      }
+    }
+    return result.toString();
+  }
+
+  private String fetchViolationProperty(ConstraintViolation<?> violation) {
+    String lastElement = null;
+    for (Path.Node node : violation.getPropertyPath()) {
+      lastElement = node.getName();
+    }
+
+    return lastElement != null ? lastElement : "";
+  }
+}
@@ -4,21 +4,48 @@
 
 public class DefaultDetailFormatting implements DetailFormatting {
 
-  private final String detailFormat;
+  private final Strategy strategy;
 
   public DefaultDetailFormatting(String detailFormat) {
-    this.detailFormat = detailFormat;
+    this.strategy = Strategy.resolve(detailFormat);
   }
 
   @Override
   public String format(String detail) {
-    if (detailFormat == null) {
-      return detail;
-    }
-    return switch (detailFormat.toLowerCase()) {
-      case DetailFormat.LOWERCASE -> detail.toLowerCase();
-      case DetailFormat.UPPERCASE -> detail.toUpperCase();
-      default -> detail;
+    return strategy.apply(detail);
+  }
+
+  private enum Strategy {
+    LOWERCASE {
+      @Override
+      String apply(String detail) {
+        return detail.toLowerCase();
+      }
+    },
+    UPPERCASE {
+      @Override
+      String apply(String detail) {
+        return detail.toUpperCase();
+      }
+    },
+    UNCHANGED {
+      @Override
+      String apply(String detail) {
+        return detail;
+      }
     };
+
+    abstract String apply(String detail);
+
+    private static Strategy resolve(String detailFormat) {
+      if (detailFormat == null) {
+        return UNCHANGED;
+      }
+      return switch (detailFormat.toLowerCase()) {
+        case DetailFormat.LOWERCASE -> LOWERCASE;
+        case DetailFormat.UPPERCASE -> UPPERCASE;
+        default -> UNCHANGED;
+      };
+    }
   }
 }
@@ -1,5 +1,10 @@
 package io.github.malczuuu.problem4j.spring.web.formatting;
 
+/**
+ * Formats {@code detail} of problems built by exception handlers. Handlers format their constant
+ * details once at construction and reuse the results, so implementations should return the same
+ * result for the same input.
+ */
 public interface DetailFormatting {
 
   String format(String detail);
@@ -1,36 +1,53 @@
 package io.github.malczuuu.problem4j.spring.web.formatting;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.NamingBase;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Formats field names with Jackson's property naming strategy. Translated names are cached, as
+ * they come from a small set of DTO properties. Once the cache is full, further names are
+ * translated on each call.
+ */
 public class JacksonFieldNameFormatting implements FieldNameFormatting {
 
-  private final String propertyNamingStrategy;
+  static final int MAX_CACHE_SIZE = 1024;
+
+  private final NamingBase namingStrategy;
+  private final Map<String, String> cache = new ConcurrentHashMap<>();
 
   public JacksonFieldNameFormatting(String propertyNamingStrategy) {
-    this.propertyNamingStrategy = propertyNamingStrategy;
+    this.namingStrategy = resolveNamingStrategy(propertyNamingStrategy);
   }
 
-  @Override
-  public String format(String fieldName) {
+  private static NamingBase resolveNamingStrategy(String propertyNamingStrategy) {
     if (propertyNamingStrategy == null) {
-      return fieldName;
+      return null;
     }
 
     return switch (propertyNamingStrategy.toUpperCase()) {
-      case "SNAKE_CASE" ->
-          ((PropertyNamingStrategies.SnakeCaseStrategy) PropertyNamingStrategies.SNAKE_CASE)
-              .translate(fieldName);
-      case "UPPER_CAMEL_CASE" ->
-          ((PropertyNamingStrategies.UpperCamelCaseStrategy)
-                  PropertyNamingStrategies.UPPER_CAMEL_CASE)
-              .translate(fieldName);
-      case "KEBAB_CASE" ->
-          ((PropertyNamingStrategies.KebabCaseStrategy) PropertyNamingStrategies.KEBAB_CASE)
-              .translate(fieldName);
-      case "LOWER_CASE" ->
-          ((PropertyNamingStrategies.LowerCaseStrategy) PropertyNamingStrategies.LOWER_CASE)
-              .translate(fieldName);
-      default -> fieldName;
+      case "SNAKE_CASE" -> (NamingBase) PropertyNamingStrategies.SNAKE_CASE;
+      case "UPPER_CAMEL_CASE" -> (NamingBase) PropertyNamingStrategies.UPPER_CAMEL_CASE;
+      case "KEBAB_CASE" -> (NamingBase) PropertyNamingStrategies.KEBAB_CASE;
+      case "LOWER_CASE" -> (NamingBase) PropertyNamingStrategies.LOWER_CASE;
+      default -> null;
     };
   }
+
+  @Override
+  public String format(String fieldName) {
+    if (namingStrategy == null || fieldName == null) {
+      return fieldName;
+    }
+
+    String result = cache.get(fieldName);
+    if (result == null) {
+      result = namingStrategy.translate(fieldName);
+      if (cache.size() < MAX_CACHE_SIZE) {
+        cache.putIfAbsent(fieldName, result);
+      }
+    }
+    return result;
+  }
 }
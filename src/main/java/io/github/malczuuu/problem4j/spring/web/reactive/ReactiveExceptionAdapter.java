@@ -0,0 +1,22 @@
+package io.github.malczuuu.problem4j.spring.web.reactive;
+
+import java.util.List;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link io.github.malczuuu.problem4j.spring.web.ExceptionAdapter}
+ * for WebFlux applications. Error response is written after returned {@link Mono} completes.
+ */
+public interface ReactiveExceptionAdapter {
+
+  Mono<Void> adapt(ServerWebExchange exchange, Exception ex, Object body);
+
+  /**
+   * Exception types (including their subtypes) this adapter is called for. Defaults to all
+   * exceptions.
+   */
+  default List<Class<? extends Exception>> getSupportedExceptionTypes() {
+    return List.of(Exception.class);
+  }
+}
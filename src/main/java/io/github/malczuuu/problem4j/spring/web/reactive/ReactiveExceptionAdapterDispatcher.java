@@ -0,0 +1,82 @@
+package io.github.malczuuu.problem4j.spring.web.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Calls {@link ReactiveExceptionAdapter}s supporting given exception one after another. Adapters
+ * matching an exception class are resolved on first occurrence of that class and cached.
+ *
+ * <p>Failure of an adapter is logged and does not stop following adapters, nor replaces the problem
+ * response that is written after dispatching.
+ */
+public class ReactiveExceptionAdapterDispatcher {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(ReactiveExceptionAdapterDispatcher.class);
+
+  private static final ReactiveExceptionAdapter[] NO_ADAPTERS = new ReactiveExceptionAdapter[0];
+
+  private final List<ReactiveExceptionAdapter> exceptionAdapters;
+
+  private final ClassValue<ReactiveExceptionAdapter[]> adaptersByExceptionClass =
+      new ClassValue<>() {
+        @Override
+        protected ReactiveExceptionAdapter[] computeValue(Class<?> exceptionClass) {
+          return resolveAdapters(exceptionClass);
+        }
+      };
+
+  public ReactiveExceptionAdapterDispatcher(List<ReactiveExceptionAdapter> exceptionAdapters) {
+    this.exceptionAdapters = List.copyOf(exceptionAdapters);
+  }
+
+  public Mono<Void> dispatch(ServerWebExchange exchange, Exception ex, Object body) {
+    ReactiveExceptionAdapter[] adapters = adaptersByExceptionClass.get(ex.getClass());
+    if (adapters.length == 0) {
+      return Mono.empty();
+    }
+    if (adapters.length == 1) {
+      return adapt(adapters[0], exchange, ex, body);
+    }
+    return Flux.fromArray(adapters).concatMap(adapter -> adapt(adapter, exchange, ex, body)).then();
+  }
+
+  private Mono<Void> adapt(
+      ReactiveExceptionAdapter adapter, ServerWebExchange exchange, Exception ex, Object body) {
+    return Mono.defer(() -> adapter.adapt(exchange, ex, body))
+        .onErrorResume(
+            e -> {
+              log.warn(
+                  "Exception adapter failed with {} : {}",
+                  e.getClass().getSimpleName(),
+                  e.getMessage(),
+                  e);
+              return Mono.empty();
+            });
+  }
+
+  private ReactiveExceptionAdapter[] resolveAdapters(Class<?> exceptionClass) {
+    List<ReactiveExceptionAdapter> result = new ArrayList<>();
+    for (ReactiveExceptionAdapter adapter : exceptionAdapters) {
+      if (supports(adapter, exceptionClass)) {
+        result.add(adapter);
+      }
+    }
+    return result.isEmpty() ? NO_ADAPTERS : result.toArray(NO_ADAPTERS);
+  }
+
+  private boolean supports(ReactiveExceptionAdapter adapter, Class<?> exceptionClass) {
+    for (Class<? extends Exception> supportedType : adapter.getSupportedExceptionTypes()) {
+      if (supportedType.isAssignableFrom(exceptionClass)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.malczuuu.problem4j.spring.web.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Logs exceptions handled by {@link ReactiveProblemResponseEntityExceptionHandler}, the same way as
+ * {@link io.github.malczuuu.problem4j.spring.web.ExceptionLoggingAdapter} does in servlet
+ * applications.
+ */
+public class ReactiveExceptionLoggingAdapter implements ReactiveExceptionAdapter, InitializingBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionLoggingAdapter.class);
+
+  @Override
+  public void afterPropertiesSet() {
+    log.info("Enabled HTTP exception logging");
+  }
+
+  @Override
+  public Mono<Void> adapt(ServerWebExchange exchange, Exception ex, Object body) {
+    if (!log.isInfoEnabled()) {
+      return Mono.empty();
+    }
+
+    ServerHttpRequest request = exchange.getRequest();
+    if (log.isDebugEnabled() && ex.getStackTrace().length > 0) {
+      log.debug(
+          "Unhandled exception {} : {} on {} {}",
+          ex.getClass().getSimpleName(),
+          ex.getMessage(),
+          request.getMethod(),
+          request.getPath(),
+          ex);
+    } else {
+      log.info(
+          "Unhandled exception {} : {} on {} {}",
+          ex.getClass().getSimpleName(),
+          ex.getMessage(),
+          request.getMethod(),
+          request.getPath());
+    }
+    return Mono.empty();
+  }
+}
@@ -0,0 +1,215 @@
+package io.github.malczuuu.problem4j.spring.web.reactive;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemBuilder;
+import io.github.malczuuu.problem4j.core.ProblemException;
+import io.github.malczuuu.problem4j.spring.web.ProblemMapping;
+import io.github.malczuuu.problem4j.spring.web.ProblemMappingRegistry;
+import io.github.malczuuu.problem4j.spring.web.ProblemTemplates;
+import io.github.malczuuu.problem4j.spring.web.RetryAfterHeaders;
+import io.github.malczuuu.problem4j.spring.web.ViolationList;
+import io.github.malczuuu.problem4j.spring.web.ViolationResolver;
+import io.github.malczuuu.problem4j.spring.web.formatting.DetailFormatting;
+import jakarta.validation.ConstraintViolationException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link
+ * io.github.malczuuu.problem4j.spring.web.ProblemResponseEntityExceptionHandler}. Exceptions
+ * handled by the base class, for which Spring builds {@link ProblemDetail}, are answered with
+ * {@link ProblemTemplates} in {@link #handleExceptionInternal}, so that both stacks return the same
+ * bodies.
+ */
+@RestControllerAdvice
+public class ReactiveProblemResponseEntityExceptionHandler extends ResponseEntityExceptionHandler {
+
+  private final ViolationResolver violationResolver;
+  private final ReactiveExceptionAdapterDispatcher exceptionAdapterDispatcher;
+  private final ProblemTemplates problemTemplates;
+  private final ProblemMappingRegistry problemMappingRegistry;
+  private final RetryAfterHeaders retryAfterHeaders;
+  private final String validationFailedDetail;
+
+  public ReactiveProblemResponseEntityExceptionHandler(
+      DetailFormatting detailFormatting,
+      ViolationResolver violationResolver,
+      List<ReactiveExceptionAdapter> exceptionAdapters,
+      ProblemTemplates problemTemplates,
+      ProblemMappingRegistry problemMappingRegistry,
+      RetryAfterHeaders retryAfterHeaders) {
+    this.violationResolver = violationResolver;
+    this.exceptionAdapterDispatcher = new ReactiveExceptionAdapterDispatcher(exceptionAdapters);
+    this.problemTemplates = problemTemplates;
+    this.problemMappingRegistry = problemMappingRegistry;
+    this.retryAfterHeaders = retryAfterHeaders;
+    this.validationFailedDetail = detailFormatting.format("Validation failed");
+  }
+
+  @ExceptionHandler({ProblemException.class})
+  public Mono<ResponseEntity<Object>> handleProblemException(
+      ProblemException ex, ServerWebExchange exchange) {
+    Problem problem = ex.getProblem();
+    HttpStatusCode status = HttpStatusCode.valueOf(problem.getStatus());
+    return handleExceptionInternal(ex, problem, new HttpHeaders(), status, exchange);
+  }
+
+  @ExceptionHandler(ConstraintViolationException.class)
+  public Mono<ResponseEntity<Object>> handleConstraintViolationException(
+      ConstraintViolationException ex, ServerWebExchange exchange) {
+    HttpStatus status = HttpStatus.BAD_REQUEST;
+    ViolationList errors = violationResolver.resolve(ex.getConstraintViolations());
+
+    ProblemBuilder builder =
+        Problem.builder()
+            .title(problemTemplates.getReasonPhrase(status))
+            .status(status.value())
+            .detail(validationFailedDetail);
+    Problem problem = violationResolver.extend(builder, errors).build();
+    return handleExceptionInternal(ex, problem, new HttpHeaders(), status, exchange);
+  }
+
+  @ExceptionHandler({Exception.class})
+  public Mono<ResponseEntity<Object>> handleOtherException(
+      Exception ex, ServerWebExchange exchange) {
+    ProblemMapping<Exception> mapping = problemMappingRegistry.find(ex);
+    if (mapping != null) {
+      Problem problem = mapping.toProblem(ex, problemTemplates);
+      return handleExceptionInternal(ex, problem, new HttpHeaders(), mapping.getStatus(), exchange);
+    }
+
+    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+    return handleExceptionInternal(
+        ex, problemTemplates.get(status), new HttpHeaders(), status, exchange);
+  }
+
+  @Override
+  protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(
+      WebExchangeBindException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    status = HttpStatus.BAD_REQUEST;
+    ViolationList errors = violationResolver.resolve(ex.getBindingResult());
+
+    ProblemBuilder builder =
+        Problem.builder()
+            .title(problemTemplates.getReasonPhrase(status))
+            .status(status.value())
+            .detail(validationFailedDetail);
+    Problem problem = violationResolver.extend(builder, errors).build();
+    return handleExceptionInternal(ex, problem, headers, status, exchange);
+  }
+
+  @Override
+  protected Mono<ResponseEntity<Object>> handleHandlerMethodValidationException(
+      HandlerMethodValidationException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    ViolationList errors = violationResolver.resolve(ex);
+    if (errors.getTotalCount() == 0) {
+      return handleExceptionInternal(ex, problemTemplates.get(status), headers, status, exchange);
+    }
+
+    ProblemBuilder builder =
+        Problem.builder()
+            .title(problemTemplates.getReasonPhrase(status))
+            .status(status.value())
+            .detail(validationFailedDetail);
+    Problem problem = violationResolver.extend(builder, errors).build();
+    return handleExceptionInternal(ex, problem, headers, status, exchange);
+  }
+
+  @Override
+  protected Mono<ResponseEntity<Object>> handleResponseStatusException(
+      ResponseStatusException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    return handleExceptionInternal(ex, from(ex.getBody(), status), headers, status, exchange);
+  }
+
+  @Override
+  protected Mono<ResponseEntity<Object>> handleErrorResponseException(
+      ErrorResponseException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    return handleExceptionInternal(ex, from(ex.getBody(), status), headers, status, exchange);
+  }
+
+  @Override
+  protected Mono<ResponseEntity<Object>> handleExceptionInternal(
+      Exception ex,
+      Object body,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    HttpHeaders responseHeaders = new HttpHeaders();
+    if (headers != null) {
+      responseHeaders.putAll(headers);
+    }
+
+    Object finalBody = toProblem(body, status);
+    if (finalBody instanceof Problem problem) {
+      responseHeaders.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+      retryAfterHeaders.apply(ex, problem, responseHeaders);
+    }
+    return exceptionAdapterDispatcher
+        .dispatch(exchange, ex, finalBody)
+        .then(super.handleExceptionInternal(ex, finalBody, responseHeaders, status, exchange));
+  }
+
+  /**
+   * Replaces bodies built by the base class with problem templates, the same as the servlet handler
+   * returns for framework exceptions such as {@link
+   * org.springframework.web.server.MethodNotAllowedException}.
+   */
+  private Object toProblem(Object body, HttpStatusCode status) {
+    if (body == null || body instanceof ProblemDetail) {
+      return problemTemplates.get(status);
+    }
+    return body;
+  }
+
+  /**
+   * Converts body of {@link ResponseStatusException} or {@link ErrorResponseException} thrown by
+   * application code, keeping its detail, instance and properties.
+   */
+  private Problem from(ProblemDetail problemDetail, HttpStatusCode status) {
+    if (problemDetail.getDetail() == null
+        && problemDetail.getInstance() == null
+        && problemDetail.getProperties() == null) {
+      return problemTemplates.get(status);
+    }
+
+    ProblemBuilder builder =
+        Problem.builder()
+            .title(problemTemplates.getReasonPhrase(status))
+            .status(status.value())
+            .detail(problemDetail.getDetail())
+            .instance(problemDetail.getInstance());
+    if (problemDetail.getProperties() != null) {
+      for (Map.Entry<String, Object> entry : problemDetail.getProperties().entrySet()) {
+        builder = builder.extension(entry.getKey(), entry.getValue());
+      }
+    }
+    return builder.build();
+  }
+}
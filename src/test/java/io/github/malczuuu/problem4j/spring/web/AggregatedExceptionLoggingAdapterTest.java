@@ -0,0 +1,211 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.github.malczuuu.problem4j.core.Problem;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+class AggregatedExceptionLoggingAdapterTest {
+
+  private final Logger logger =
+      (Logger) LoggerFactory.getLogger(AggregatedExceptionLoggingAdapter.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private final AggregatedExceptionLoggingAdapter adapter =
+      new AggregatedExceptionLoggingAdapter(Duration.ofSeconds(60));
+
+  private final Problem body = Problem.builder().status(500).build();
+
+  @BeforeEach
+  void beforeEach() {
+    appender.start();
+    logger.addAppender(appender);
+    logger.setLevel(Level.INFO);
+    logger.setAdditive(false);
+  }
+
+  @AfterEach
+  void afterEach() {
+    logger.detachAppender(appender);
+    logger.setLevel(null);
+    logger.setAdditive(true);
+  }
+
+  @Test
+  void givenExceptionsOfSameGroup_whenFlush_thenLogsOneLinePerGroup() {
+    for (int i = 0; i < 3; i++) {
+      adapter.adapt(request("GET", "/api/orders/{id}"), stacklessException(), body);
+    }
+    adapter.adapt(request("POST", "/api/orders"), stacklessException(), body);
+
+    adapter.flush();
+
+    assertThat(messages())
+        .containsExactlyInAnyOrder(
+            "3 x exception StacklessProblemException on GET /api/orders/{id} with status 500 in last 60000 ms",
+            "1 x exception StacklessProblemException on POST /api/orders with status 500 in last 60000 ms");
+  }
+
+  @Test
+  void givenNonStandardMethod_whenFlush_thenMethodIsCountedAsOther() {
+    adapter.adapt(request("FOO", "/api/orders"), stacklessException(), body);
+    adapter.adapt(request("BAR", "/api/orders"), stacklessException(), body);
+
+    adapter.flush();
+
+    assertThat(messages())
+        .containsExactly(
+            "2 x exception StacklessProblemException on OTHER /api/orders with status 500 in last 60000 ms");
+  }
+
+  @Test
+  void givenNoExceptionsSincePreviousFlush_whenFlush_thenLogsNothing() {
+    adapter.adapt(request("GET", "/api/orders"), stacklessException(), body);
+    adapter.flush();
+    appender.list.clear();
+
+    adapter.flush();
+
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void givenGroupsOverLimit_whenFlush_thenLogsOverflowGroup() {
+    for (int i = 0; i < AggregatedExceptionLoggingAdapter.MAX_GROUPS + 2; i++) {
+      adapter.adapt(request("GET", "/api/orders/" + i), stacklessException(), body);
+    }
+
+    adapter.flush();
+
+    assertThat(appender.list).hasSize(AggregatedExceptionLoggingAdapter.MAX_GROUPS + 1);
+    assertThat(messages()).contains("2 x exception in groups over limit of 1000 in last 60000 ms");
+  }
+
+  @Test
+  void givenIdleGroupsRemovedOnFlush_whenNewGroup_thenItIsNotOverflowed() {
+    for (int i = 0; i < AggregatedExceptionLoggingAdapter.MAX_GROUPS; i++) {
+      adapter.adapt(request("GET", "/api/orders/" + i), stacklessException(), body);
+    }
+    adapter.flush();
+    adapter.flush();
+    appender.list.clear();
+
+    adapter.adapt(request("GET", "/api/customers"), stacklessException(), body);
+    adapter.flush();
+
+    assertThat(messages())
+        .containsExactly(
+            "1 x exception StacklessProblemException on GET /api/customers with status 500 in last 60000 ms");
+  }
+
+  @Test
+  void givenExceptionsOfSameGroup_whenAdapt_thenLogsStackTraceOnlyForFirstOne() {
+    adapter.adapt(request("GET", "/api/orders"), exceptionWithStackTrace(1), body);
+    adapter.adapt(request("GET", "/api/orders"), exceptionWithStackTrace(2), body);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(appender.list.get(0).getFormattedMessage())
+        .isEqualTo("First occurrence of exception IllegalStateException : boom on GET /api/orders");
+    assertThat(appender.list.get(0).getThrowableProxy()).isNotNull();
+  }
+
+  @Test
+  void givenExceptionsOfSameGroup_whenAdapt_thenStackTraceOfFurtherOnesIsNotRead() {
+    AtomicInteger stackTraceReads = new AtomicInteger();
+    adapter.adapt(request("GET", "/api/orders"), exceptionWithStackTrace(1), body);
+
+    adapter.adapt(
+        request("GET", "/api/orders"),
+        new IllegalStateException("boom") {
+          @Override
+          public StackTraceElement[] getStackTrace() {
+            stackTraceReads.incrementAndGet();
+            return super.getStackTrace();
+          }
+        },
+        body);
+
+    assertThat(stackTraceReads).hasValue(0);
+  }
+
+  @Test
+  void givenSameStackTraceInDifferentGroups_whenAdapt_thenLogsStackTraceOnce() {
+    adapter.adapt(request("GET", "/api/orders"), exceptionWithStackTrace(1), body);
+    adapter.adapt(request("POST", "/api/orders"), exceptionWithStackTrace(1), body);
+    adapter.adapt(request("GET", "/api/customers"), exceptionWithStackTrace(2), body);
+
+    assertThat(messages())
+        .containsExactly(
+            "First occurrence of exception IllegalStateException : boom on GET /api/orders",
+            "First occurrence of exception IllegalStateException : boom on GET /api/customers");
+  }
+
+  @Test
+  void givenStacklessException_whenAdapt_thenDoesNotLogFirstOccurrence() {
+    adapter.adapt(request("GET", "/api/orders"), stacklessException(), body);
+
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void givenSignatureSetFull_whenAdapt_thenSeenStackTraceIsLoggedAgain() {
+    for (int i = 0; i < AggregatedExceptionLoggingAdapter.MAX_STACK_SIGNATURES; i++) {
+      if (i % AggregatedExceptionLoggingAdapter.MAX_GROUPS == 0) {
+        // idle groups are removed on second flush, making room for new ones
+        adapter.flush();
+        adapter.flush();
+      }
+      adapter.adapt(request("GET", "/api/orders/" + i), exceptionWithStackTrace(i), body);
+    }
+    adapter.flush();
+    adapter.flush();
+    assertThat(firstOccurrences()).hasSize(AggregatedExceptionLoggingAdapter.MAX_STACK_SIGNATURES);
+
+    adapter.adapt(request("GET", "/api/customers"), exceptionWithStackTrace(-1), body);
+    adapter.adapt(request("GET", "/api/payments"), exceptionWithStackTrace(0), body);
+
+    assertThat(firstOccurrences())
+        .hasSize(AggregatedExceptionLoggingAdapter.MAX_STACK_SIGNATURES + 2);
+  }
+
+  private ServletWebRequest request(String method, String routePattern) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, routePattern);
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, routePattern);
+    return new ServletWebRequest(request);
+  }
+
+  private StacklessProblemException stacklessException() {
+    return new StacklessProblemException(body);
+  }
+
+  private IllegalStateException exceptionWithStackTrace(int lineNumber) {
+    IllegalStateException ex = new IllegalStateException("boom");
+    ex.setStackTrace(
+        new StackTraceElement[] {
+          new StackTraceElement(
+              "com.example.OrderService", "place", "OrderService.java", lineNumber)
+        });
+    return ex;
+  }
+
+  private List<String> messages() {
+    return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+  }
+
+  private List<String> firstOccurrences() {
+    return messages().stream().filter(message -> message.startsWith("First occurrence")).toList();
+  }
+}
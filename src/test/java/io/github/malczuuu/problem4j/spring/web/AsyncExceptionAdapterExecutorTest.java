@@ -0,0 +1,73 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.spring.web.AsyncExceptionAdapterExecutor.OverflowPolicy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncExceptionAdapterExecutorTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private AsyncExceptionAdapterExecutor executor;
+
+  @AfterEach
+  void afterEach() {
+    release.countDown();
+    executor.destroy();
+  }
+
+  @Test
+  void givenTask_whenExecuting_thenRunsOnAnotherThread() throws InterruptedException {
+    executor = new AsyncExceptionAdapterExecutor(10, OverflowPolicy.DROP, 0.0, 1, false);
+    CountDownLatch done = new CountDownLatch(1);
+    Thread caller = Thread.currentThread();
+    AtomicBoolean otherThread = new AtomicBoolean();
+
+    executor.execute(
+        () -> {
+          otherThread.set(Thread.currentThread() != caller);
+          done.countDown();
+        });
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(otherThread).isTrue();
+  }
+
+  @Test
+  void givenFullQueueAndDropPolicy_whenExecuting_thenTaskIsDropped() throws InterruptedException {
+    executor = new AsyncExceptionAdapterExecutor(1, OverflowPolicy.DROP, 0.0, 1, false);
+    executor.execute(this::awaitRelease);
+    AtomicBoolean overflowRun = new AtomicBoolean();
+
+    executor.execute(() -> overflowRun.set(true));
+
+    assertThat(overflowRun).isFalse();
+    assertThat(executor.getQueueDepth()).isEqualTo(1);
+    assertThat(executor.getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void givenFullQueueAndCallerRunsPolicy_whenExecuting_thenTaskRunsOnCaller() {
+    executor = new AsyncExceptionAdapterExecutor(1, OverflowPolicy.CALLER_RUNS, 0.0, 1, false);
+    executor.execute(this::awaitRelease);
+    Thread caller = Thread.currentThread();
+    AtomicBoolean callerRun = new AtomicBoolean();
+
+    executor.execute(() -> callerRun.set(Thread.currentThread() == caller));
+
+    assertThat(callerRun).isTrue();
+    assertThat(executor.getDroppedCount()).isZero();
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.spring.web.AsyncExceptionAdapter.AsyncMode;
+import io.github.malczuuu.problem4j.spring.web.AsyncExceptionAdapterExecutor.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.WebRequest;
+
+class AsyncExceptionAdapterTest {
+
+  private final AsyncExceptionAdapterExecutor executor =
+      new AsyncExceptionAdapterExecutor(10, OverflowPolicy.DROP, 0.0, 1, false);
+
+  @AfterEach
+  void afterEach() {
+    executor.destroy();
+  }
+
+  @Test
+  void givenAllMode_whenDecorating_thenAdaptersReadingRequestStaySynchronous() {
+    ExceptionAdapter plain = new PlainAdapter();
+    ExceptionAdapter logging = new ExceptionLoggingAdapter();
+    ExceptionAdapter aggregatedLogging =
+        new AggregatedExceptionLoggingAdapter(Duration.ofMinutes(1));
+    ExceptionAdapter metrics = new MetricsExceptionAdapter(new SimpleMeterRegistry(), 10);
+
+    List<ExceptionAdapter> result =
+        AsyncExceptionAdapter.decorate(
+            List.of(plain, logging, aggregatedLogging, metrics), executor, AsyncMode.ALL);
+
+    assertThat(result.get(0)).isInstanceOf(AsyncExceptionAdapter.class);
+    assertThat(result.subList(1, 4)).containsExactly(logging, aggregatedLogging, metrics);
+  }
+
+  @Test
+  void givenAnnotatedMode_whenDecorating_thenOnlyAsyncAdaptersAreDecorated() {
+    ExceptionAdapter plain = new PlainAdapter();
+    ExceptionAdapter async = new AsyncAnnotatedAdapter();
+    ExceptionAdapter sync = new SyncAndAsyncAnnotatedAdapter();
+
+    List<ExceptionAdapter> result =
+        AsyncExceptionAdapter.decorate(List.of(plain, async, sync), executor, AsyncMode.ANNOTATED);
+
+    assertThat(result.get(0)).isSameAs(plain);
+    assertThat(result.get(1)).isInstanceOf(AsyncExceptionAdapter.class);
+    assertThat(result.get(2)).isSameAs(sync);
+  }
+
+  private static class PlainAdapter implements ExceptionAdapter {
+
+    @Override
+    public void adapt(WebRequest request, Exception ex, Object body) {}
+  }
+
+  @AsyncAdapter
+  private static class AsyncAnnotatedAdapter extends PlainAdapter {}
+
+  @SyncAdapter
+  @AsyncAdapter
+  private static class SyncAndAsyncAnnotatedAdapter extends PlainAdapter {}
+}
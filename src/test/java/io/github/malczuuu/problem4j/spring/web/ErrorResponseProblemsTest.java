@@ -0,0 +1,80 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+class ErrorResponseProblemsTest {
+
+  private final ProblemTemplates problemTemplates = new ProblemTemplates();
+  private final ErrorResponseProblems errorResponseProblems =
+      new ErrorResponseProblems(problemTemplates);
+
+  @Test
+  void givenStatusOnlyBody_whenToProblem_thenProblemTemplateIsReturned() {
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND);
+
+    Problem problem = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+
+    assertThat(problem).isSameAs(problemTemplates.get(HttpStatus.NOT_FOUND));
+    assertThat(problem.getTitle()).isEqualTo(HttpStatus.NOT_FOUND.getReasonPhrase());
+    assertThat(problem.getStatus()).isEqualTo(404);
+    assertThat(problem.getDetail()).isNull();
+  }
+
+  @Test
+  void givenStatusOnlyBodyOfNonStandardStatus_whenToProblem_thenTitleIsEmpty() {
+    ResponseStatusException ex = new ResponseStatusException(HttpStatusCode.valueOf(499));
+
+    Problem problem = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+
+    assertThat(problem.getTitle()).isEmpty();
+    assertThat(problem.getStatus()).isEqualTo(499);
+    assertThat(problem.getDetail()).isNull();
+  }
+
+  @Test
+  void givenBodyWithDetail_whenToProblem_thenProblemIsBuiltEachTime() {
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND, "No order 42");
+
+    Problem first = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+    Problem second = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(first.getTitle()).isEqualTo(HttpStatus.NOT_FOUND.getReasonPhrase());
+    assertThat(first.getDetail()).isEqualTo("No order 42");
+  }
+
+  @Test
+  void givenBodyWithInstance_whenToProblem_thenProblemIsBuiltEachTime() {
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND);
+    ex.getBody().setInstance(URI.create("/api/orders/1"));
+
+    Problem first = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+    Problem second = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(first.getInstance()).isEqualTo(URI.create("/api/orders/1"));
+  }
+
+  @Test
+  void givenBodyWithProperties_whenToProblem_thenProblemIsBuiltEachTime() {
+    List<String> values = new ArrayList<>(List.of("a"));
+    ErrorResponseException ex = new ErrorResponseException(HttpStatus.CONFLICT);
+    ex.getBody().setProperty("values", values);
+
+    Problem first = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+    Problem second = errorResponseProblems.toProblem(ex, ex.getStatusCode());
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(first.getExtensionValue("values")).isEqualTo(List.of("a"));
+  }
+}
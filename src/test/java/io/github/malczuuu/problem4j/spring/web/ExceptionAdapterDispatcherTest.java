@@ -0,0 +1,130 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+class ExceptionAdapterDispatcherTest {
+
+  private final WebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+  @Test
+  void givenAdapterWithoutDeclaredTypes_whenDispatching_thenAdapterIsCalledForAnyException() {
+    RecordingAdapter adapter = new RecordingAdapter(null);
+    ExceptionAdapterDispatcher dispatcher = new ExceptionAdapterDispatcher(List.of(adapter));
+
+    dispatcher.dispatch(request, new IllegalStateException(), null);
+    dispatcher.dispatch(request, new Exception(), null);
+
+    assertThat(adapter.calls).hasSize(2);
+  }
+
+  @Test
+  void givenAdapterWithDeclaredTypes_whenDispatching_thenAdapterIsCalledOnlyForMatchingTypes() {
+    RecordingAdapter adapter = new RecordingAdapter(List.of(IllegalArgumentException.class));
+    ExceptionAdapterDispatcher dispatcher = new ExceptionAdapterDispatcher(List.of(adapter));
+
+    NumberFormatException subtype = new NumberFormatException();
+    dispatcher.dispatch(request, subtype, null);
+    dispatcher.dispatch(request, new IllegalStateException(), null);
+
+    assertThat(adapter.calls).containsExactly(subtype);
+  }
+
+  @Test
+  void givenMultipleAdapters_whenDispatching_thenAdaptersAreCalledInOrder() {
+    List<String> order = new ArrayList<>();
+    ExceptionAdapter first = (request, ex, body) -> order.add("first");
+    ExceptionAdapter second = (request, ex, body) -> order.add("second");
+    ExceptionAdapterDispatcher dispatcher = new ExceptionAdapterDispatcher(List.of(first, second));
+
+    dispatcher.dispatch(request, new IllegalStateException(), null);
+    dispatcher.dispatch(request, new IllegalStateException(), null);
+
+    assertThat(order).containsExactly("first", "second", "first", "second");
+  }
+
+  @Test
+  void givenOnlyPlainAdapters_whenDispatching_thenContextIsNotCaptured() {
+    CountingAccessor accessor = new CountingAccessor();
+    RecordingAdapter adapter = new RecordingAdapter(null);
+    ExceptionAdapterDispatcher dispatcher =
+        new ExceptionAdapterDispatcher(List.of(adapter), List.of(accessor));
+
+    dispatcher.dispatch(request, new IllegalStateException(), null);
+
+    assertThat(adapter.calls).hasSize(1);
+    assertThat(accessor.captures).hasValue(0);
+  }
+
+  @Test
+  void givenContextAwareAdapter_whenDispatching_thenContextIsCapturedOnceForAllAdapters() {
+    CountingAccessor accessor = new CountingAccessor();
+    List<ExceptionContext> contexts = new ArrayList<>();
+    ExceptionAdapter contextAware =
+        new ExceptionAdapter() {
+          @Override
+          public void adapt(WebRequest request, Exception ex, Object body) {}
+
+          @Override
+          public void adapt(
+              WebRequest request, Exception ex, Object body, ExceptionContext context) {
+            contexts.add(context);
+          }
+        };
+    RecordingAdapter plain = new RecordingAdapter(null);
+    ExceptionAdapterDispatcher dispatcher =
+        new ExceptionAdapterDispatcher(List.of(plain, contextAware), List.of(accessor));
+
+    dispatcher.dispatch(request, new IllegalStateException(), null);
+
+    assertThat(plain.calls).hasSize(1);
+    assertThat(contexts).hasSize(1);
+    assertThat(contexts.get(0).getValue(accessor)).isEqualTo("value");
+    assertThat(accessor.captures).hasValue(1);
+  }
+
+  private static class RecordingAdapter implements ExceptionAdapter {
+
+    private final List<Class<? extends Exception>> supportedExceptionTypes;
+    private final List<Exception> calls = new ArrayList<>();
+
+    private RecordingAdapter(List<Class<? extends Exception>> supportedExceptionTypes) {
+      this.supportedExceptionTypes = supportedExceptionTypes;
+    }
+
+    @Override
+    public void adapt(WebRequest request, Exception ex, Object body) {
+      calls.add(ex);
+    }
+
+    @Override
+    public List<Class<? extends Exception>> getSupportedExceptionTypes() {
+      return supportedExceptionTypes != null
+          ? supportedExceptionTypes
+          : ExceptionAdapter.super.getSupportedExceptionTypes();
+    }
+  }
+
+  private static class CountingAccessor implements ExceptionContextAccessor<String> {
+
+    private final AtomicInteger captures = new AtomicInteger();
+
+    @Override
+    public String capture() {
+      captures.incrementAndGet();
+      return "value";
+    }
+
+    @Override
+    public ExceptionContext.Scope restore(String value) {
+      return () -> {};
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ExceptionContextTest {
+
+  @AfterEach
+  void afterEach() {
+    MDC.clear();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void givenCapturedContext_whenRunOnOtherThread_thenMdcAndRequestAttributesAreRestored() {
+    RequestAttributes requestAttributes =
+        new ServletRequestAttributes(new MockHttpServletRequest());
+    MDC.put("traceId", "abc");
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+    ExceptionContext context = ExceptionContext.capture(List.of());
+
+    Map<String, Object> seen = new HashMap<>();
+    CompletableFuture.runAsync(
+            context.wrap(
+                () -> {
+                  seen.put("traceId", MDC.get("traceId"));
+                  seen.put("attributes", RequestContextHolder.getRequestAttributes());
+                }))
+        .join();
+
+    assertThat(seen)
+        .containsEntry("traceId", "abc")
+        .containsEntry("attributes", requestAttributes);
+    assertThat(context.getMdc()).containsEntry("traceId", "abc");
+  }
+
+  @Test
+  void givenRestoredContext_whenScopeClosed_thenPreviousContextIsBack() {
+    MDC.put("traceId", "captured");
+    ExceptionContext context = ExceptionContext.capture(List.of());
+    MDC.put("traceId", "other");
+
+    try (ExceptionContext.Scope scope = context.restore()) {
+      assertThat(MDC.get("traceId")).isEqualTo("captured");
+    }
+
+    assertThat(MDC.get("traceId")).isEqualTo("other");
+  }
+
+  @Test
+  void givenAccessor_whenCapture_thenValueIsAvailableAndRestored() {
+    ThreadLocal<String> tenant = new ThreadLocal<>();
+    ExceptionContextAccessor<String> accessor =
+        new ExceptionContextAccessor<>() {
+          @Override
+          public String capture() {
+            return tenant.get();
+          }
+
+          @Override
+          public ExceptionContext.Scope restore(String value) {
+            String previous = tenant.get();
+            tenant.set(value);
+            return () -> tenant.set(previous);
+          }
+        };
+    tenant.set("acme");
+    ExceptionContext context = ExceptionContext.capture(List.of(accessor));
+    tenant.remove();
+
+    assertThat(context.getValue(accessor)).isEqualTo("acme");
+    try (ExceptionContext.Scope scope = context.restore()) {
+      assertThat(tenant.get()).isEqualTo("acme");
+    }
+    assertThat(tenant.get()).isNull();
+  }
+}
@@ -0,0 +1,107 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ExceptionLoggingAdapterTest {
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(ExceptionLoggingAdapter.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  private final AtomicInteger pathReads = new AtomicInteger();
+  private final MockHttpServletRequest request =
+      new MockHttpServletRequest("GET", "/api/orders") {
+        @Override
+        public String getServletPath() {
+          pathReads.incrementAndGet();
+          return super.getServletPath();
+        }
+      };
+
+  @BeforeEach
+  void beforeEach() {
+    request.setServletPath("/api/orders");
+    request.setQueryString("page=2&size=20");
+
+    appender.start();
+    logger.addAppender(appender);
+    logger.setLevel(Level.INFO);
+    // other appenders would format messages, rendering request path regardless of this test
+    logger.setAdditive(false);
+  }
+
+  @AfterEach
+  void afterEach() {
+    logger.detachAppender(appender);
+    logger.setLevel(null);
+    logger.setAdditive(true);
+  }
+
+  @Test
+  void givenDefaults_whenAdapt_thenLogsPathWithQueryString() {
+    ExceptionLoggingAdapter adapter = new ExceptionLoggingAdapter();
+
+    adapter.adapt(new ServletWebRequest(request), new IllegalStateException("boom"), null);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(appender.list.get(0).getFormattedMessage())
+        .isEqualTo("Unhandled exception IllegalStateException : boom on GET /api/orders?page=2&size=20");
+  }
+
+  @Test
+  void givenQueryStringExcluded_whenAdapt_thenLogsPathWithoutQueryString() {
+    ExceptionLoggingAdapter adapter = new ExceptionLoggingAdapter(null, null, false, -1);
+
+    adapter.adapt(new ServletWebRequest(request), new IllegalStateException("boom"), null);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(appender.list.get(0).getFormattedMessage())
+        .isEqualTo("Unhandled exception IllegalStateException : boom on GET /api/orders");
+  }
+
+  @Test
+  void givenMaxQueryStringLength_whenAdapt_thenLogsTruncatedQueryString() {
+    ExceptionLoggingAdapter adapter = new ExceptionLoggingAdapter(null, null, true, 6);
+
+    adapter.adapt(new ServletWebRequest(request), new IllegalStateException("boom"), null);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(appender.list.get(0).getFormattedMessage())
+        .isEqualTo("Unhandled exception IllegalStateException : boom on GET /api/orders?page=2...");
+  }
+
+  @Test
+  void givenQueryStringNotLongerThanMaxLength_whenAdapt_thenLogsWholeQueryString() {
+    ExceptionLoggingAdapter adapter = new ExceptionLoggingAdapter(null, null, true, 14);
+
+    adapter.adapt(new ServletWebRequest(request), new IllegalStateException("boom"), null);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(appender.list.get(0).getFormattedMessage())
+        .isEqualTo("Unhandled exception IllegalStateException : boom on GET /api/orders?page=2&size=20");
+  }
+
+  @Test
+  void givenMessageNotFormatted_whenAdapt_thenRequestPathIsNotRendered() {
+    ExceptionLoggingAdapter adapter = new ExceptionLoggingAdapter();
+
+    adapter.adapt(new ServletWebRequest(request), new IllegalStateException("boom"), null);
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(pathReads).hasValue(0);
+
+    assertThat(appender.list.get(0).getFormattedMessage()).endsWith("/api/orders?page=2&size=20");
+    assertThat(pathReads).hasValue(1);
+  }
+}
@@ -0,0 +1,61 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ExceptionLoggingLimiterTest {
+
+  @Test
+  void givenRateLimit_whenBurstExceeded_thenSuppressesFurtherEvents() {
+    ExceptionLoggingLimiter limiter = new ExceptionLoggingLimiter(0.001, 3, 1.0);
+
+    int acquired = 0;
+    for (int i = 0; i < 10; i++) {
+      if (limiter.tryAcquire(IllegalStateException.class)) {
+        acquired++;
+      }
+    }
+
+    assertThat(acquired).isEqualTo(3);
+    assertThat(drain(limiter)).containsEntry(IllegalStateException.class, 7L);
+  }
+
+  @Test
+  void givenRateLimit_whenDifferentClasses_thenEachClassHasOwnBucket() {
+    ExceptionLoggingLimiter limiter = new ExceptionLoggingLimiter(0.001, 1, 1.0);
+
+    assertThat(limiter.tryAcquire(IllegalStateException.class)).isTrue();
+    assertThat(limiter.tryAcquire(IllegalArgumentException.class)).isTrue();
+    assertThat(limiter.tryAcquire(IllegalStateException.class)).isFalse();
+  }
+
+  @Test
+  void givenZeroSampleRate_whenAcquiring_thenSuppressesAllEvents() {
+    ExceptionLoggingLimiter limiter = new ExceptionLoggingLimiter(0.0, 1, 0.0);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(IllegalStateException.class)).isFalse();
+    }
+
+    assertThat(drain(limiter)).containsEntry(IllegalStateException.class, 5L);
+  }
+
+  @Test
+  void givenSuppressedEvents_whenDrainedTwice_thenSecondDrainIsEmpty() {
+    ExceptionLoggingLimiter limiter = new ExceptionLoggingLimiter(0.0, 1, 0.0);
+    limiter.tryAcquire(IllegalStateException.class);
+
+    drain(limiter);
+
+    assertThat(drain(limiter)).isEmpty();
+  }
+
+  private Map<Class<?>, Long> drain(ExceptionLoggingLimiter limiter) {
+    Map<Class<?>, Long> result = new HashMap<>();
+    limiter.drainSuppressed(result::put);
+    return result;
+  }
+}
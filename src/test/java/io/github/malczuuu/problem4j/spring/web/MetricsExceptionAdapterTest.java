@@ -0,0 +1,88 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+class MetricsExceptionAdapterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void givenProblem_whenAdapting_thenCountsProblemWithTags() {
+    MetricsExceptionAdapter adapter = new MetricsExceptionAdapter(meterRegistry, 10);
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/orders/12");
+    servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+    Problem problem =
+        Problem.builder()
+            .type(URI.create("https://example.org/order-not-found"))
+            .title("Not Found")
+            .status(404)
+            .build();
+
+    adapter.adapt(new ServletWebRequest(servletRequest), new IllegalStateException(), problem);
+    adapter.adapt(new ServletWebRequest(servletRequest), new IllegalStateException(), problem);
+
+    Counter counter =
+        meterRegistry
+            .get(MetricsExceptionAdapter.PROBLEMS_METRIC)
+            .tag("status", "404")
+            .tag("exception", "IllegalStateException")
+            .tag("type", "https://example.org/order-not-found")
+            .tag("route", "/orders/{id}")
+            .counter();
+    assertThat(counter.count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void givenStartTime_whenAdapting_thenRecordsHandlerTime() {
+    MetricsExceptionAdapter adapter = new MetricsExceptionAdapter(meterRegistry, 10);
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+    new ProblemTimingExceptionResolver()
+        .resolveException(servletRequest, null, null, new IllegalStateException());
+
+    adapter.adapt(
+        new ServletWebRequest(servletRequest),
+        new IllegalStateException(),
+        Problem.builder().title("Internal Server Error").status(500).build());
+
+    Timer timer = meterRegistry.get(MetricsExceptionAdapter.HANDLER_METRIC).timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void givenTooManyTypes_whenAdapting_thenReportsFurtherTypesAsOther() {
+    MetricsExceptionAdapter adapter = new MetricsExceptionAdapter(meterRegistry, 1);
+    ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+    adapter.adapt(request, new IllegalStateException(), problemOfType("https://example.org/a"));
+    adapter.adapt(request, new IllegalStateException(), problemOfType("https://example.org/b"));
+
+    assertThat(
+            meterRegistry
+                .get(MetricsExceptionAdapter.PROBLEMS_METRIC)
+                .tag("type", "https://example.org/a")
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+    assertThat(
+            meterRegistry
+                .get(MetricsExceptionAdapter.PROBLEMS_METRIC)
+                .tag("type", "OTHER")
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  private Problem problemOfType(String type) {
+    return Problem.builder().type(URI.create(type)).title("Bad Request").status(400).build();
+  }
+}
@@ -0,0 +1,102 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.jackson.ProblemModule;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+class PrecomputedProblemBodiesTest {
+
+  private ObjectMapper objectMapper;
+  private ProblemTemplates problemTemplates;
+  private PrecomputedProblemBodies precomputedProblemBodies;
+
+  @BeforeEach
+  void beforeEach() {
+    objectMapper = new ObjectMapper().registerModule(new ProblemModule());
+    problemTemplates = new ProblemTemplates();
+    precomputedProblemBodies = new PrecomputedProblemBodies(objectMapper, problemTemplates);
+  }
+
+  @Test
+  void givenTemplateProblem_whenFind_thenReturnsSerializedProblem()
+      throws JsonProcessingException {
+    Problem problem = problemTemplates.get(HttpStatus.NOT_FOUND);
+
+    byte[] body = precomputedProblemBodies.find(problem);
+
+    assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(problem));
+  }
+
+  @Test
+  void givenOtherProblem_whenFind_thenReturnsNull() {
+    Problem problem =
+        Problem.builder()
+            .title(HttpStatus.NOT_FOUND.getReasonPhrase())
+            .status(HttpStatus.NOT_FOUND.value())
+            .build();
+
+    byte[] body = precomputedProblemBodies.find(problem);
+
+    assertThat(body).isNull();
+  }
+
+  @Test
+  void givenObjectMapperReconfigured_whenFind_thenReturnsBodySerializedWithNewConfig()
+      throws JsonProcessingException {
+    Problem problem = problemTemplates.get(HttpStatus.NOT_FOUND);
+    byte[] before = precomputedProblemBodies.find(problem);
+
+    objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+    byte[] after = precomputedProblemBodies.find(problem);
+
+    assertThat(after).isNotEqualTo(before);
+    assertThat(after).isEqualTo(objectMapper.writeValueAsBytes(problem));
+  }
+
+  @Test
+  void givenHandlerWithPrecomputedBodies_whenHandlingNoHandlerFound_thenRespondsWithBytes()
+      throws JsonProcessingException {
+    ProblemResponseEntityExceptionHandler handler =
+        new ProblemResponseEntityExceptionHandler(
+            detail -> detail,
+            new ViolationResolver(fieldName -> fieldName),
+            List.of(),
+            problemTemplates,
+            precomputedProblemBodies,
+            List.of(),
+            new ProblemMappingRegistry(),
+            null,
+            null,
+            new RetryAfterHeaders(Duration.ZERO, 0.0));
+    NoHandlerFoundException ex =
+        new NoHandlerFoundException(HttpMethod.GET.name(), "/api/resources", new HttpHeaders());
+
+    ResponseEntity<Object> response =
+        handler.handleNoHandlerFoundException(
+            ex,
+            ex.getHeaders(),
+            ex.getStatusCode(),
+            new ServletWebRequest(new MockHttpServletRequest()));
+
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+    assertThat(response.getBody())
+        .isEqualTo(objectMapper.writeValueAsBytes(problemTemplates.get(HttpStatus.NOT_FOUND)));
+  }
+}
@@ -2,20 +2,30 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.malczuuu.problem4j.spring.web.formatting.FieldNameFormatting;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 @SpringBootTest(classes = {JacksonAutoConfiguration.class, ProblemAutoConfiguration.class})
 class ProblemAutoConfigurationTest {
 
   @Autowired private ProblemProperties properties;
+  @Autowired private ObjectProvider<PrecomputedProblemBodies> precomputedProblemBodies;
+  @Autowired private ObjectProvider<AsyncExceptionAdapterExecutor> asyncExceptionAdapterExecutor;
+  @Autowired private ObjectProvider<ProblemContentNegotiation> problemContentNegotiation;
 
   @Test
   void contextLoads() {
     assertThat(properties.getDefaultDetailFormat()).isEqualTo(DetailFormat.CAPITALIZED);
+    assertThat(precomputedProblemBodies.getIfAvailable()).isNull();
+    assertThat(asyncExceptionAdapterExecutor.getIfAvailable()).isNotNull();
+    assertThat(problemContentNegotiation.getIfAvailable()).isNotNull();
   }
 
   @Nested
@@ -45,4 +55,87 @@ void contextLoads() {
       assertThat(properties.getDefaultDetailFormat()).isEqualTo(DetailFormat.UPPERCASE);
     }
   }
+
+  @Nested
+  @SpringBootTest(
+      classes = {JacksonAutoConfiguration.class, ProblemAutoConfiguration.class},
+      properties = {"problem4j.precomputed-bodies.enabled=true"})
+  class PrecomputedBodiesEnabledTest {
+
+    @Autowired private ProblemProperties properties;
+    @Autowired private ObjectProvider<PrecomputedProblemBodies> precomputedProblemBodies;
+
+    @Test
+    void contextLoads() {
+      assertThat(properties.getPrecomputedBodies().isEnabled()).isTrue();
+      assertThat(precomputedProblemBodies.getIfAvailable()).isNotNull();
+    }
+  }
+
+  @Nested
+  @SpringBootTest(
+      classes = {JacksonAutoConfiguration.class, ProblemAutoConfiguration.class},
+      properties = {
+        "problem4j.mappings[java.lang.IllegalStateException].status=409",
+        "problem4j.mappings[java.lang.IllegalStateException].detail=Conflict: {message}"
+      })
+  class MappingsTest {
+
+    @Autowired private ProblemMappingRegistry problemMappingRegistry;
+
+    @Test
+    void contextLoads() {
+      IllegalStateException ex = new IllegalStateException("order is closed");
+
+      ProblemMapping<IllegalStateException> mapping = problemMappingRegistry.find(ex);
+
+      assertThat(mapping).isNotNull();
+      assertThat(mapping.getStatus().value()).isEqualTo(409);
+      assertThat(mapping.toProblem(ex, new ProblemTemplates()).getDetail())
+          .isEqualTo("Conflict: order is closed");
+    }
+  }
+
+  @Nested
+  @SpringBootTest(
+      classes = {JacksonAutoConfiguration.class, ProblemAutoConfiguration.class},
+      properties = {"problem4j.adapters.async.mode=none"})
+  class AsyncAdaptersDisabledTest {
+
+    @Autowired private ObjectProvider<AsyncExceptionAdapterExecutor> asyncExceptionAdapterExecutor;
+    @Autowired private ObjectProvider<AsyncExceptionAdapterMetrics> asyncExceptionAdapterMetrics;
+    @Autowired private ProblemResponseEntityExceptionHandler problemResponseEntityExceptionHandler;
+
+    @Test
+    void contextLoads() {
+      assertThat(asyncExceptionAdapterExecutor.getIfAvailable()).isNull();
+      assertThat(asyncExceptionAdapterMetrics.getIfAvailable()).isNull();
+      assertThat(problemResponseEntityExceptionHandler).isNotNull();
+    }
+  }
+
+  @Nested
+  @SpringBootTest(
+      classes = {ProblemAutoConfiguration.class, FieldNameFormattingConfiguration.class})
+  class WithoutObjectMapperTest {
+
+    @Autowired private ObjectProvider<ProblemContentNegotiation> problemContentNegotiation;
+    @Autowired private ProblemResponseEntityExceptionHandler problemResponseEntityExceptionHandler;
+
+    @Test
+    void contextLoads() {
+      assertThat(problemContentNegotiation.getIfAvailable()).isNull();
+      assertThat(problemResponseEntityExceptionHandler).isNotNull();
+    }
+  }
+
+  // without Jackson auto-configuration there are no JacksonProperties to build the default one
+  @Configuration(proxyBeanMethods = false)
+  static class FieldNameFormattingConfiguration {
+
+    @Bean
+    FieldNameFormatting fieldNameFormatting() {
+      return fieldName -> fieldName;
+    }
+  }
 }
@@ -0,0 +1,89 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.jackson.ProblemModule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class ProblemBodyCompressionTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ProblemModule());
+  private final ProblemBodyCompression compression = new ProblemBodyCompression(objectMapper, 256);
+
+  @Test
+  void givenLargeBodyAndGzipAccepted_whenCompress_thenBodyIsGzipped() throws Exception {
+    Problem problem = largeProblem();
+    HttpHeaders headers = new HttpHeaders();
+
+    byte[] compressed = compression.compress(problem, "gzip, deflate, br", headers);
+
+    assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(headers.getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(compressed))))
+        .isEqualTo(objectMapper.writeValueAsBytes(problem));
+  }
+
+  @Test
+  void givenLargeBodyAndDeflatePreferred_whenCompress_thenBodyIsDeflated() throws Exception {
+    Problem problem = largeProblem();
+    HttpHeaders headers = new HttpHeaders();
+
+    byte[] compressed = compression.compress(problem, "gzip;q=0.5, deflate", headers);
+
+    assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("deflate");
+    assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(compressed))))
+        .isEqualTo(objectMapper.writeValueAsBytes(problem));
+  }
+
+  @Test
+  void givenSmallBody_whenCompress_thenBodyIsSerializedWithoutEncoding() throws Exception {
+    Problem problem = Problem.builder().title("Not Found").status(404).build();
+    HttpHeaders headers = new HttpHeaders();
+
+    byte[] body = compression.compress(problem, "gzip", headers);
+
+    assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(problem));
+    assertThat(headers.containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+  }
+
+  @Test
+  void givenNoSupportedEncodingAccepted_whenCompress_thenReturnsNull() {
+    HttpHeaders headers = new HttpHeaders();
+
+    assertThat(compression.compress(largeProblem(), null, headers)).isNull();
+    assertThat(compression.compress(largeProblem(), "br", headers)).isNull();
+    assertThat(compression.compress(largeProblem(), "gzip;q=0", headers)).isNull();
+    assertThat(headers.isEmpty()).isTrue();
+  }
+
+  @Test
+  void givenAcceptEncoding_whenSelectEncoding_thenHighestQualityWins() {
+    assertThat(ProblemBodyCompression.selectEncoding("deflate, gzip")).isEqualTo("gzip");
+    assertThat(ProblemBodyCompression.selectEncoding("deflate;q=1.0, gzip;q=0.8"))
+        .isEqualTo("deflate");
+    assertThat(ProblemBodyCompression.selectEncoding("identity")).isNull();
+  }
+
+  private Problem largeProblem() {
+    return Problem.builder()
+        .title("Bad Request")
+        .status(400)
+        .detail("Validation failed")
+        .extension("errors", "must not be blank, ".repeat(50))
+        .build();
+  }
+
+  private byte[] decode(InputStream in) throws IOException {
+    try (in) {
+      return in.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static io.github.malczuuu.problem4j.spring.web.ProblemContentNegotiation.APPLICATION_PROBLEM_CBOR;
+import static io.github.malczuuu.problem4j.spring.web.ProblemContentNegotiation.APPLICATION_PROBLEM_SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.jackson.ProblemModule;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+class ProblemContentNegotiationTest {
+
+  private final ObjectMapper cborMapper =
+      new ObjectMapper(new CBORFactory()).registerModule(new ProblemModule());
+
+  private final ProblemContentNegotiation negotiation =
+      new ProblemContentNegotiation(
+          Map.of(
+              APPLICATION_PROBLEM_CBOR,
+              cborMapper,
+              APPLICATION_PROBLEM_SMILE,
+              new ObjectMapper(new SmileFactory()).registerModule(new ProblemModule())));
+
+  @Test
+  void givenAcceptHeader_whenSelect_thenHighestQualityTypeIsSelected() {
+    assertThat(negotiation.select("application/problem+cbor")).isEqualTo(APPLICATION_PROBLEM_CBOR);
+    assertThat(negotiation.select("application/problem+smile, */*;q=0.5"))
+        .isEqualTo(APPLICATION_PROBLEM_SMILE);
+    assertThat(negotiation.select("application/json, application/problem+cbor;q=0.5")).isNull();
+    assertThat(negotiation.select("application/problem+json, application/problem+cbor")).isNull();
+    assertThat(negotiation.select("*/*")).isNull();
+    assertThat(negotiation.select("not a media type")).isNull();
+    assertThat(negotiation.select(null)).isNull();
+  }
+
+  @Test
+  void givenMappers_whenHasBinaryEncodings_thenTrueOnlyIfAnyMapperIsGiven() {
+    assertThat(negotiation.hasBinaryEncodings()).isTrue();
+    assertThat(new ProblemContentNegotiation(Map.of()).hasBinaryEncodings()).isFalse();
+  }
+
+  @Test
+  void givenProblem_whenWrite_thenBodyIsEncodedInSelectedType() throws Exception {
+    Problem problem = Problem.builder().title("Not Found").status(404).detail("No order").build();
+
+    byte[] body = negotiation.write(APPLICATION_PROBLEM_CBOR, problem);
+
+    assertThat(cborMapper.readValue(body, Problem.class).getDetail()).isEqualTo("No order");
+  }
+
+  @Test
+  void givenCborAccepted_whenHandled_thenResponseIsEncodedAsCbor() throws Exception {
+    ProblemResponseEntityExceptionHandler handler = handler(negotiation);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/1");
+    request.addHeader(HttpHeaders.ACCEPT, "application/problem+cbor");
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND, "No order");
+
+    ResponseEntity<Object> response = handler.handleException(ex, new ServletWebRequest(request));
+
+    assertThat(response.getHeaders().getContentType()).isEqualTo(APPLICATION_PROBLEM_CBOR);
+    assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    assertThat(response.getBody()).isInstanceOf(byte[].class);
+    Problem problem = cborMapper.readValue((byte[]) response.getBody(), Problem.class);
+    assertThat(problem.getStatus()).isEqualTo(404);
+    assertThat(problem.getDetail()).isEqualTo("No order");
+  }
+
+  @Test
+  void givenJsonAccepted_whenHandled_thenResponseIsJsonAndVariesByAccept() throws Exception {
+    ProblemResponseEntityExceptionHandler handler = handler(negotiation);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/1");
+    request.addHeader(HttpHeaders.ACCEPT, "application/problem+json");
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND, "No order");
+
+    ResponseEntity<Object> response = handler.handleException(ex, new ServletWebRequest(request));
+
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+    assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    assertThat(response.getBody()).isInstanceOf(Problem.class);
+  }
+
+  @Test
+  void givenNoBinaryEncodings_whenHandled_thenResponseDoesNotVaryByAccept() throws Exception {
+    ProblemResponseEntityExceptionHandler handler =
+        handler(new ProblemContentNegotiation(Map.of()));
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/1");
+    request.addHeader(HttpHeaders.ACCEPT, "application/problem+cbor");
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND, "No order");
+
+    ResponseEntity<Object> response = handler.handleException(ex, new ServletWebRequest(request));
+
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+    assertThat(response.getHeaders().getVary()).isEmpty();
+  }
+
+  private ProblemResponseEntityExceptionHandler handler(ProblemContentNegotiation negotiation) {
+    return new ProblemResponseEntityExceptionHandler(
+        detail -> detail,
+        new ViolationResolver(fieldName -> fieldName),
+        List.of(),
+        new ProblemTemplates(),
+        null,
+        List.of(),
+        new ProblemMappingRegistry(),
+        null,
+        negotiation,
+        new RetryAfterHeaders(Duration.ZERO, 0.0));
+  }
+}
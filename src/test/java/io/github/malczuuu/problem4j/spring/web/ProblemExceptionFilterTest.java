@@ -0,0 +1,117 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemException;
+import io.github.malczuuu.problem4j.jackson.ProblemModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.context.request.WebRequest;
+
+class ProblemExceptionFilterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ProblemModule());
+
+  private final ProblemExceptionFilter filter =
+      new ProblemExceptionFilter(
+          new ProblemResponseEntityExceptionHandler(
+              detail -> detail, fieldName -> fieldName, List.of()),
+          objectMapper);
+
+  private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Test
+  void givenProblemExceptionFromFilter_whenFilter_thenWritesProblem() throws Exception {
+    Problem problem = Problem.builder().title("Forbidden").status(403).detail("Blocked").build();
+
+    filter.doFilter(request, response, chainThrowing(new ProblemException(problem)));
+
+    assertThat(response.getStatus()).isEqualTo(403);
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    Problem written = objectMapper.readValue(response.getContentAsByteArray(), Problem.class);
+    assertThat(written.getTitle()).isEqualTo("Forbidden");
+    assertThat(written.getDetail()).isEqualTo("Blocked");
+  }
+
+  @Test
+  void givenSpringMvcExceptionWrappedInServletException_whenFilter_thenWritesMappedProblem()
+      throws Exception {
+    ServletException ex =
+        new ServletException(
+            "wrapped", new HttpRequestMethodNotSupportedException(HttpMethod.PUT.name()));
+
+    filter.doFilter(request, response, chainThrowing(ex));
+
+    assertThat(response.getStatus()).isEqualTo(405);
+    Problem written = objectMapper.readValue(response.getContentAsByteArray(), Problem.class);
+    assertThat(written.getTitle()).isEqualTo("Method Not Allowed");
+  }
+
+  @Test
+  void givenUnknownException_whenFilter_thenWritesInternalServerError() throws Exception {
+    filter.doFilter(request, response, chainThrowing(new IllegalStateException("boom")));
+
+    assertThat(response.getStatus()).isEqualTo(500);
+    Problem written = objectMapper.readValue(response.getContentAsByteArray(), Problem.class);
+    assertThat(written.getTitle()).isEqualTo("Internal Server Error");
+  }
+
+  @Test
+  void givenCommittedResponse_whenFilter_thenRethrows() {
+    IllegalStateException ex = new IllegalStateException("boom");
+    FilterChain chain =
+        (req, res) -> {
+          res.flushBuffer();
+          throw ex;
+        };
+
+    assertThatThrownBy(() -> filter.doFilter(request, response, chain)).isSameAs(ex);
+  }
+
+  @Test
+  void givenHandlerFailingForSpringMvcException_whenFilter_thenPropagatesFailure() {
+    IllegalStateException failure = new IllegalStateException("handler failed");
+    ProblemExceptionFilter failingFilter =
+        new ProblemExceptionFilter(
+            new ProblemResponseEntityExceptionHandler(
+                detail -> detail, fieldName -> fieldName, List.of()) {
+              @Override
+              protected ResponseEntity<Object> handleHttpRequestMethodNotSupported(
+                  HttpRequestMethodNotSupportedException ex,
+                  HttpHeaders headers,
+                  HttpStatusCode status,
+                  WebRequest request) {
+                throw failure;
+              }
+            },
+            objectMapper);
+    HttpRequestMethodNotSupportedException ex =
+        new HttpRequestMethodNotSupportedException(HttpMethod.PUT.name());
+
+    assertThatThrownBy(() -> failingFilter.doFilter(request, response, chainThrowing(ex)))
+        .isSameAs(failure);
+  }
+
+  private FilterChain chainThrowing(Exception ex) {
+    return (req, res) -> {
+      if (ex instanceof ServletException servletException) {
+        throw servletException;
+      }
+      throw (RuntimeException) ex;
+    };
+  }
+}
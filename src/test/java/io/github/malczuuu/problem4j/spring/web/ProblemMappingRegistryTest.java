@@ -0,0 +1,73 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class ProblemMappingRegistryTest {
+
+  private final ProblemMappingRegistry registry = new ProblemMappingRegistry();
+  private final ProblemTemplates problemTemplates = new ProblemTemplates();
+
+  @Test
+  void givenNoMapping_whenFind_thenReturnsNull() {
+    assertThat(registry.find(new IllegalStateException())).isNull();
+  }
+
+  @Test
+  void givenMappingOfSuperclass_whenFind_thenClosestMappingApplies() {
+    registry.register(RuntimeException.class, HttpStatus.BAD_REQUEST);
+    registry.register(IllegalArgumentException.class, HttpStatus.UNPROCESSABLE_ENTITY);
+
+    assertThat(registry.find(new NumberFormatException()).getStatus())
+        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    assertThat(registry.find(new IllegalStateException()).getStatus())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(registry.find(new Exception())).isNull();
+  }
+
+  @Test
+  void givenMappingRegisteredAfterLookup_whenFind_thenNewMappingApplies() {
+    registry.register(RuntimeException.class, HttpStatus.BAD_REQUEST);
+    assertThat(registry.find(new IllegalStateException()).getStatus())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+
+    registry.register(IllegalStateException.class, HttpStatus.CONFLICT);
+
+    assertThat(registry.find(new IllegalStateException()).getStatus())
+        .isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void givenStatusOnlyMapping_whenToProblem_thenReturnsTemplate() {
+    IllegalStateException ex = new IllegalStateException();
+    registry.register(IllegalStateException.class, HttpStatus.CONFLICT);
+
+    Problem problem = registry.find(ex).toProblem(ex, problemTemplates);
+
+    assertThat(problem).isSameAs(problemTemplates.get(HttpStatus.CONFLICT));
+  }
+
+  @Test
+  void givenFullMapping_whenToProblem_thenExtractorsAreApplied() {
+    IllegalArgumentException ex = new IllegalArgumentException("order-42");
+    registry
+        .register(IllegalArgumentException.class, HttpStatus.NOT_FOUND)
+        .type(URI.create("https://example.org/problems/order-not-found"))
+        .title("Order not found")
+        .detail("Order does not exist")
+        .extension("orderId", IllegalArgumentException::getMessage);
+
+    Problem problem = registry.find(ex).toProblem(ex, problemTemplates);
+
+    assertThat(problem.getType())
+        .isEqualTo(URI.create("https://example.org/problems/order-not-found"));
+    assertThat(problem.getTitle()).isEqualTo("Order not found");
+    assertThat(problem.getStatus()).isEqualTo(404);
+    assertThat(problem.getDetail()).isEqualTo("Order does not exist");
+    assertThat(problem.getExtensionValue("orderId")).isEqualTo("order-42");
+  }
+}
@@ -4,16 +4,22 @@
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.github.malczuuu.problem4j.core.Problem;
 import io.github.malczuuu.problem4j.spring.web.formatting.DetailFormatting;
+import jakarta.validation.ConstraintViolationException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.ConversionNotSupportedException;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -27,6 +33,7 @@
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.method.MethodValidationException;
 import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.ErrorResponseException;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -64,6 +71,21 @@ void beforeEach() {
             detail -> detail, fieldName -> fieldName, List.of());
   }
 
+  @Test
+  void givenConstraintViolationExceptionShouldGenerateProblemWithValidationFailedDetail() {
+    ConstraintViolationException ex = new ConstraintViolationException("invalid", Set.of());
+
+    ResponseEntity<Object> response =
+        handler.handleConstraintViolationException(ex, mockWebRequest);
+
+    assertInstanceOf(Problem.class, response.getBody());
+    Problem problem = (Problem) response.getBody();
+    assertEquals(HttpStatus.BAD_REQUEST.getReasonPhrase(), problem.getTitle());
+    assertEquals(HttpStatus.BAD_REQUEST.value(), problem.getStatus());
+    assertEquals("Validation failed", problem.getDetail());
+    assertEquals(List.of(), problem.getExtensionValue("errors"));
+  }
+
   @Test
   void givenHttpRequestMethodNotSupportedExceptionShouldGenerateProblem() {
     HttpRequestMethodNotSupportedException ex =
@@ -207,6 +229,38 @@ void givenHandlerMethodValidationExceptionShouldGenerateProblem() {
     assertEquals(HttpStatus.BAD_REQUEST.value(), problem.getStatus());
   }
 
+  @Test
+  void givenHandlerMethodValidationExceptionWithParameterErrorsShouldGenerateViolations() {
+    MethodParameter parameter = new MethodParameter(method, 0);
+    parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+    ParameterValidationResult parameterResult = mock(ParameterValidationResult.class);
+    when(parameterResult.getMethodParameter()).thenReturn(parameter);
+    when(parameterResult.getResolvableErrors())
+        .thenReturn(
+            List.of(new DefaultMessageSourceResolvable(null, null, "size must be at most 10")));
+    MethodValidationResult methodValidationResult = mock(MethodValidationResult.class);
+    when(methodValidationResult.getParameterValidationResults())
+        .thenReturn(List.of(parameterResult));
+    HandlerMethodValidationException ex =
+        new HandlerMethodValidationException(methodValidationResult);
+
+    ResponseEntity<Object> response =
+        handler.handleHandlerMethodValidationException(
+            ex, new HttpHeaders(), HttpStatus.BAD_REQUEST, mockWebRequest);
+
+    assertInstanceOf(Problem.class, response.getBody());
+    Problem problem = (Problem) response.getBody();
+    assertEquals(HttpStatus.BAD_REQUEST.getReasonPhrase(), problem.getTitle());
+    assertEquals(HttpStatus.BAD_REQUEST.value(), problem.getStatus());
+    assertEquals("Validation failed", problem.getDetail());
+    assertInstanceOf(List.class, problem.getExtensionValue("errors"));
+    List<?> errors = (List<?>) problem.getExtensionValue("errors");
+    assertEquals(1, errors.size());
+    Violation violation = (Violation) errors.get(0);
+    assertEquals("id", violation.getField());
+    assertEquals("size must be at most 10", violation.getError());
+  }
+
   @Test
   void givenNoHandlerFoundExceptionShouldGenerateProblem() {
     NoHandlerFoundException ex =
@@ -372,6 +426,29 @@ void givenMethodValidationExceptionShouldGenerateProblem() {
     assertNull(problem.getDetail());
   }
 
+  @Test
+  void givenDetailFormatting_whenHandlingRepeatedly_thenConstantDetailsAreFormattedOnce() {
+    AtomicInteger formatCalls = new AtomicInteger();
+    ProblemResponseEntityExceptionHandler countingHandler =
+        new ProblemResponseEntityExceptionHandler(
+            detail -> {
+              formatCalls.incrementAndGet();
+              return detail.toUpperCase();
+            },
+            fieldName -> fieldName,
+            List.of());
+    int callsAfterConstruction = formatCalls.get();
+    TypeMismatchException ex = new TypeMismatchException("12", Integer.class);
+
+    for (int i = 0; i < 3; i++) {
+      ResponseEntity<Object> response =
+          countingHandler.handleTypeMismatch(
+              ex, new HttpHeaders(), HttpStatus.BAD_REQUEST, mockWebRequest);
+      assertEquals("TYPE MISMATCH", ((Problem) response.getBody()).getDetail());
+    }
+    assertEquals(callsAfterConstruction, formatCalls.get());
+  }
+
   private static class DummyController {
     public void someMethod(String id) {}
   }
@@ -0,0 +1,50 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+class ProblemTemplatesTest {
+
+  private final ProblemTemplates problemTemplates = new ProblemTemplates();
+
+  @Test
+  void givenHttpStatus_whenGet_thenReturnsProblemWithStatusAndTitle() {
+    Problem problem = problemTemplates.get(HttpStatus.NOT_FOUND);
+
+    assertThat(problem.getType()).isEqualTo(Problem.BLANK_TYPE);
+    assertThat(problem.getTitle()).isEqualTo(HttpStatus.NOT_FOUND.getReasonPhrase());
+    assertThat(problem.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    assertThat(problem.getDetail()).isNull();
+  }
+
+  @Test
+  void givenSameStatus_whenGet_thenReturnsSameInstance() {
+    Problem first = problemTemplates.get(HttpStatus.METHOD_NOT_ALLOWED);
+    Problem second = problemTemplates.get(HttpStatusCode.valueOf(405));
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void givenUnknownStatusCode_whenGet_thenReturnsProblemWithEmptyTitle() {
+    Problem problem = problemTemplates.get(HttpStatusCode.valueOf(499));
+
+    assertThat(problem.getTitle()).isEmpty();
+    assertThat(problem.getStatus()).isEqualTo(499);
+  }
+
+  @Test
+  void givenStatusCode_whenGetReasonPhrase_thenReturnsSameAsHttpStatusResolve() {
+    for (int code = 100; code < 600; code++) {
+      HttpStatus status = HttpStatus.resolve(code);
+      String expected = status != null ? status.getReasonPhrase() : "";
+
+      assertThat(problemTemplates.getReasonPhrase(HttpStatusCode.valueOf(code)))
+          .isEqualTo(expected);
+    }
+  }
+}
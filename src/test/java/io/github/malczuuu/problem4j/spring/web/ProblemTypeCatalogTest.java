@@ -0,0 +1,108 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class ProblemTypeCatalogTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void givenEntries_whenCreated_thenEntriesAreSortedAndDeduplicated() {
+    ProblemTypeCatalog catalog =
+        new ProblemTypeCatalog(
+            objectMapper,
+            List.of(
+                entry("https://example.org/problems/out-of-stock", "Out of stock"),
+                entry("https://example.org/problems/order-not-found", "Order not found"),
+                entry("https://example.org/problems/out-of-stock", "Duplicate")));
+
+    assertThat(catalog.getEntries())
+        .extracting(ProblemTypeCatalog.Entry::title)
+        .containsExactly("Order not found", "Out of stock");
+    assertThat(new String(catalog.getBody()))
+        .isEqualTo(
+            "{\"types\":["
+                + "{\"type\":\"https://example.org/problems/order-not-found\",\"title\":\"Order not found\",\"status\":409},"
+                + "{\"type\":\"https://example.org/problems/out-of-stock\",\"title\":\"Out of stock\",\"status\":409}"
+                + "]}");
+  }
+
+  @Test
+  void givenSameEntriesInDifferentOrder_whenCreated_thenEtagIsTheSame() {
+    ProblemTypeCatalog.Entry first = entry("https://example.org/problems/a", "A");
+    ProblemTypeCatalog.Entry second = entry("https://example.org/problems/b", "B");
+
+    ProblemTypeCatalog catalog = new ProblemTypeCatalog(objectMapper, List.of(first, second));
+    ProblemTypeCatalog reordered = new ProblemTypeCatalog(objectMapper, List.of(second, first));
+    ProblemTypeCatalog other = new ProblemTypeCatalog(objectMapper, List.of(first));
+
+    assertThat(catalog.getEtag()).startsWith("\"").endsWith("\"");
+    assertThat(reordered.getEtag()).isEqualTo(catalog.getEtag());
+    assertThat(other.getEtag()).isNotEqualTo(catalog.getEtag());
+  }
+
+  @Test
+  void givenAnnotatedExceptions_whenScanned_thenTheirTypesAreFound() {
+    List<ProblemTypeCatalog.Entry> entries =
+        new DeclaredProblemTypeScanner().scan(List.of(getClass().getPackageName()));
+
+    assertThat(entries)
+        .contains(
+            new ProblemTypeCatalog.Entry(
+                URI.create("https://example.org/problems/payment-declined"),
+                "Payment declined",
+                402,
+                "Payment provider declined the charge"),
+            new ProblemTypeCatalog.Entry(
+                URI.create("https://example.org/problems/payment"), null, 0, null));
+  }
+
+  @Test
+  void givenCatalogController_whenRequestedWithEtag_thenNotModified() throws Exception {
+    ProblemTypeCatalog catalog =
+        new ProblemTypeCatalog(
+            objectMapper, List.of(entry("https://example.org/problems/out-of-stock", "Out")));
+    MockMvc mockMvc =
+        MockMvcBuilders.standaloneSetup(
+                new ProblemTypeCatalogController(catalog, Duration.ofHours(1)))
+            .build();
+
+    mockMvc
+        .perform(get("/problem-types"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, catalog.getEtag()))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+        .andExpect(content().bytes(catalog.getBody()));
+    mockMvc
+        .perform(get("/problem-types").header(HttpHeaders.IF_NONE_MATCH, catalog.getEtag()))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, catalog.getEtag()));
+  }
+
+  private ProblemTypeCatalog.Entry entry(String type, String title) {
+    return new ProblemTypeCatalog.Entry(URI.create(type), title, 409, null);
+  }
+
+  @DeclaredProblemType(type = "https://example.org/problems/payment")
+  abstract static class PaymentException extends RuntimeException {}
+
+  @DeclaredProblemType(
+      type = "https://example.org/problems/payment-declined",
+      title = "Payment declined",
+      status = 402,
+      description = "Payment provider declined the charge")
+  static class PaymentDeclinedException extends PaymentException {}
+}
@@ -0,0 +1,110 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class RetryAfterHeadersTest {
+
+  private final RetryAfterHeaders retryAfterHeaders = new RetryAfterHeaders(Duration.ZERO, 0.0);
+
+  @Test
+  void givenRetryableProblemException_whenApply_thenRetryAfterAndRateLimitAreSet() {
+    Problem problem = Problem.builder().title("Too Many Requests").status(429).build();
+    RetryableProblemException ex =
+        new RetryableProblemException(
+            problem,
+            Duration.ofMillis(1500),
+            new RetryableProblemException.RateLimit(100, 0, Duration.ofSeconds(30)));
+    HttpHeaders headers = new HttpHeaders();
+
+    retryAfterHeaders.apply(ex, problem, headers);
+
+    assertThat(headers.getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    assertThat(headers.getFirst("RateLimit-Limit")).isEqualTo("100");
+    assertThat(headers.getFirst("RateLimit-Remaining")).isEqualTo("0");
+    assertThat(headers.getFirst("RateLimit-Reset")).isEqualTo("30");
+  }
+
+  @Test
+  void givenProblemExtensions_whenApply_thenHeadersAreTakenFromExtensions() {
+    Problem problem =
+        Problem.builder()
+            .title("Service Unavailable")
+            .status(503)
+            .extension("retryAfter", 10)
+            .extension("rateLimit", Map.of("limit", 50, "remaining", 3, "reset", 20))
+            .build();
+    HttpHeaders headers = new HttpHeaders();
+
+    retryAfterHeaders.apply(new IllegalStateException(), problem, headers);
+
+    assertThat(headers.getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+    assertThat(headers.getFirst("RateLimit-Limit")).isEqualTo("50");
+    assertThat(headers.getFirst("RateLimit-Remaining")).isEqualTo("3");
+    assertThat(headers.getFirst("RateLimit-Reset")).isEqualTo("20");
+  }
+
+  @Test
+  void givenExistingRetryAfter_whenApply_thenItIsKept() {
+    Problem problem = Problem.builder().status(503).extension("retryAfter", 10).build();
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, "60");
+
+    retryAfterHeaders.apply(new IllegalStateException(), problem, headers);
+
+    assertThat(headers.get(HttpHeaders.RETRY_AFTER)).containsExactly("60");
+  }
+
+  @Test
+  void givenDefaultDelay_whenApply_thenOnlyOverloadProblemsGetRetryAfter() {
+    RetryAfterHeaders withDefault = new RetryAfterHeaders(Duration.ofSeconds(5), 0.0);
+    HttpHeaders overloadHeaders = new HttpHeaders();
+    HttpHeaders conflictHeaders = new HttpHeaders();
+
+    withDefault.apply(
+        new IllegalStateException(), Problem.builder().status(429).build(), overloadHeaders);
+    withDefault.apply(
+        new IllegalStateException(), Problem.builder().status(409).build(), conflictHeaders);
+
+    assertThat(overloadHeaders.getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    assertThat(conflictHeaders.containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+  }
+
+  @Test
+  void givenJitter_whenApply_thenDelayIsWithinJitteredRange() {
+    RetryAfterHeaders withJitter = new RetryAfterHeaders(Duration.ofSeconds(10), 0.5);
+
+    for (int i = 0; i < 100; i++) {
+      HttpHeaders headers = new HttpHeaders();
+      withJitter.apply(new IllegalStateException(), Problem.builder().status(503).build(), headers);
+
+      assertThat(Long.parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER))).isBetween(10L, 15L);
+    }
+  }
+
+  @Test
+  void givenRetryableProblemException_whenHandled_thenResponseHasRetryAfter() {
+    ProblemResponseEntityExceptionHandler handler =
+        new ProblemResponseEntityExceptionHandler(
+            detail -> detail, fieldName -> fieldName, List.of());
+    Problem problem = Problem.builder().title("Service Unavailable").status(503).build();
+
+    ResponseEntity<Object> response =
+        handler.handleProblemException(
+            new RetryableProblemException(problem, Duration.ofSeconds(30)),
+            new ServletWebRequest(new MockHttpServletRequest()));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+  }
+}
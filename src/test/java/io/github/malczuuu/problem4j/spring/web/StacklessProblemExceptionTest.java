@@ -0,0 +1,44 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class StacklessProblemExceptionTest {
+
+  private final Problem problem =
+      Problem.builder()
+          .title(HttpStatus.CONFLICT.getReasonPhrase())
+          .status(HttpStatus.CONFLICT.value())
+          .detail("Order already exists")
+          .build();
+
+  @Test
+  void givenStacklessProblemException_whenCreated_thenHasNoStackTrace() {
+    StacklessProblemException ex = new StacklessProblemException(problem);
+
+    assertThat(ex.getStackTrace()).isEmpty();
+    assertThat(ex.getProblem()).isSameAs(problem);
+  }
+
+  @Test
+  void givenStacklessProblemException_whenHandled_thenRespondsWithProblem() {
+    ProblemResponseEntityExceptionHandler handler =
+        new ProblemResponseEntityExceptionHandler(
+            detail -> detail, fieldName -> fieldName, List.of(new ExceptionLoggingAdapter()));
+
+    ResponseEntity<Object> response =
+        handler.handleProblemException(
+            new StacklessProblemException(problem),
+            new ServletWebRequest(new MockHttpServletRequest()));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(response.getBody()).isSameAs(problem);
+  }
+}
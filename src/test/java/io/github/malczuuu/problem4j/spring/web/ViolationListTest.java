@@ -0,0 +1,116 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+class ViolationListTest {
+
+  private final ViolationResolver violationResolver = new ViolationResolver(String::toUpperCase);
+
+  @Test
+  void givenBindingResult_whenSerialized_thenSameAsListOfViolations() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    List<Violation> violations = violationResolver.resolve(bindingResult());
+
+    assertThat(violations).isInstanceOf(ViolationList.class);
+    assertThat(objectMapper.writeValueAsString(violations))
+        .isEqualTo(objectMapper.writeValueAsString(List.copyOf(violations)));
+  }
+
+  @Test
+  void givenBindingResult_whenAccessed_thenFieldErrorsPrecedeGlobalErrors() {
+    List<Violation> violations = violationResolver.resolve(bindingResult());
+
+    assertThat(violations)
+        .extracting(Violation::getField, Violation::getError)
+        .containsExactly(
+            tuple("NAME", "must not be blank"),
+            tuple("QUANTITY", "must be positive"),
+            tuple(null, "order is invalid"));
+  }
+
+  @Test
+  void givenNonNullInclusion_whenSerialized_thenNullFieldIsSkipped() throws Exception {
+    ObjectMapper objectMapper =
+        new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    List<Violation> violations = violationResolver.resolve(bindingResult());
+
+    assertThat(objectMapper.writeValueAsString(violations))
+        .isEqualTo(objectMapper.writeValueAsString(List.copyOf(violations)))
+        .endsWith("{\"error\":\"order is invalid\"}]");
+  }
+
+  @Test
+  void givenMaxErrors_whenResolved_thenFirstErrorsAreKeptAndProblemMarkedTruncated() {
+    ViolationResolver limitedResolver = new ViolationResolver(String::toUpperCase, 2, false);
+
+    ViolationList violations = limitedResolver.resolve(bindingResult());
+    Problem problem = limitedResolver.extend(Problem.builder(), violations).build();
+
+    assertThat(violations).extracting(Violation::getField).containsExactly("NAME", "QUANTITY");
+    assertThat(problem.getExtensionValue("truncated")).isEqualTo(true);
+    assertThat(problem.getExtensionValue("totalErrors")).isEqualTo(3);
+  }
+
+  @Test
+  void givenErrorsWithinLimit_whenResolved_thenProblemIsNotMarkedTruncated() {
+    ViolationResolver limitedResolver = new ViolationResolver(String::toUpperCase, 3, false);
+
+    ViolationList violations = limitedResolver.resolve(bindingResult());
+    Problem problem = limitedResolver.extend(Problem.builder(), violations).build();
+
+    assertThat(violations).hasSize(3);
+    assertThat(problem.getExtensionValue("truncated")).isNull();
+    assertThat(problem.getExtensionValue("totalErrors")).isNull();
+  }
+
+  @Test
+  void givenFullPath_whenResolved_thenEachPropertyOfPathIsFormatted() {
+    ViolationResolver fullPathResolver =
+        new ViolationResolver(new JacksonFieldNameFormatting("SNAKE_CASE"), -1, true);
+    BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "order");
+    bindingResult.addError(new FieldError("order", "orderItems[42].unitPrice", "must be positive"));
+    bindingResult.addError(
+        new FieldError("order", "attributes[key.withDot].value", "must not be blank"));
+
+    ViolationList violations = fullPathResolver.resolve(bindingResult);
+
+    assertThat(violations)
+        .extracting(Violation::getField)
+        .containsExactly("order_items[42].unit_price", "attributes[key.withDot].value");
+  }
+
+  @Test
+  void givenNestedFieldError_whenResolvedWithAndWithoutFullPath_thenFieldsDiffer() {
+    JacksonFieldNameFormatting formatting = new JacksonFieldNameFormatting("UPPER_CAMEL_CASE");
+    ViolationResolver fullPathResolver = new ViolationResolver(formatting, -1, true);
+    ViolationResolver fieldNameResolver = new ViolationResolver(formatting, -1, false);
+    BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "order");
+    bindingResult.addError(new FieldError("order", "orderItems[42].unitPrice", "must be positive"));
+
+    assertThat(fullPathResolver.resolve(bindingResult))
+        .extracting(Violation::getField)
+        .containsExactly("OrderItems[42].UnitPrice");
+    assertThat(fieldNameResolver.resolve(bindingResult))
+        .extracting(Violation::getField)
+        .containsExactly("OrderItems[42].unitPrice");
+  }
+
+  private BeanPropertyBindingResult bindingResult() {
+    BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "order");
+    bindingResult.addError(new FieldError("order", "name", "must not be blank"));
+    bindingResult.addError(new ObjectError("order", "order is invalid"));
+    bindingResult.addError(new FieldError("order", "quantity", "must be positive"));
+    return bindingResult;
+  }
+}
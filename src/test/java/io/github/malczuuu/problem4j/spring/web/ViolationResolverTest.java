@@ -0,0 +1,135 @@
+package io.github.malczuuu.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.malczuuu.problem4j.spring.web.formatting.JacksonFieldNameFormatting;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ViolationResolverTest {
+
+  private final ViolationResolver fullPathResolver =
+      new ViolationResolver(new JacksonFieldNameFormatting("SNAKE_CASE"), -1, true);
+
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+
+  @BeforeEach
+  void beforeEach() {
+    validatorFactory =
+        Validation.byDefaultProvider()
+            .configure()
+            .messageInterpolator(new ParameterMessageInterpolator())
+            .buildValidatorFactory();
+    validator = validatorFactory.getValidator();
+  }
+
+  @AfterEach
+  void afterEach() {
+    validatorFactory.close();
+  }
+
+  @Test
+  void givenViolationsOfIndexedAndKeyedElements_whenResolvedWithFullPath_thenPathsHavePositions() {
+    Order order = new Order();
+    order.orderItems = List.of(new OrderItem(1), new OrderItem(0));
+    order.attributes = Map.of("colorName", new Attribute(""));
+
+    Set<ConstraintViolation<Order>> violations = validator.validate(order);
+
+    assertThat(fullPathResolver.resolve(violations))
+        .extracting(Violation::getField)
+        .containsExactlyInAnyOrder(
+            "order_items[1].unit_price", "attributes[colorName].display_name");
+  }
+
+  @Test
+  void givenViolationsOfContainerElements_whenResolvedWithFullPath_thenPathsEndWithPositions() {
+    Order order = new Order();
+    order.deliveryNotes = List.of("leave at door", " ");
+    order.labels = Map.of("giftWrap", "");
+
+    Set<ConstraintViolation<Order>> violations = validator.validate(order);
+
+    assertThat(fullPathResolver.resolve(violations))
+        .extracting(Violation::getField)
+        .containsExactlyInAnyOrder("delivery_notes[1]", "labels[giftWrap]");
+  }
+
+  @Test
+  void givenViolationsOfMethodParameters_whenResolvedWithFullPath_thenMethodNodeIsSkipped()
+      throws Exception {
+    Method method = OrderService.class.getMethod("placeOrder", int.class, OrderItem.class);
+    Object[] arguments = {0, new OrderItem(0)};
+
+    Set<ConstraintViolation<OrderService>> violations =
+        validator.forExecutables().validateParameters(new OrderService(), method, arguments);
+
+    assertThat(fullPathResolver.resolve(violations))
+        .extracting(Violation::getField)
+        .containsExactlyInAnyOrder("item_count", "first_item.unit_price");
+  }
+
+  @Test
+  void givenViolationsOfMethodParameters_whenResolved_thenLastPropertyNamesAreUsed()
+      throws Exception {
+    ViolationResolver violationResolver =
+        new ViolationResolver(new JacksonFieldNameFormatting("SNAKE_CASE"));
+    Method method = OrderService.class.getMethod("placeOrder", int.class, OrderItem.class);
+    Object[] arguments = {0, new OrderItem(0)};
+
+    Set<ConstraintViolation<OrderService>> violations =
+        validator.forExecutables().validateParameters(new OrderService(), method, arguments);
+
+    assertThat(violationResolver.resolve(violations))
+        .extracting(Violation::getField)
+        .containsExactlyInAnyOrder("item_count", "unit_price");
+  }
+
+  public static class Order {
+
+    @Valid private List<OrderItem> orderItems = List.of();
+
+    @Valid private Map<String, Attribute> attributes = Map.of();
+
+    private List<@NotBlank String> deliveryNotes = List.of();
+
+    private Map<String, @NotBlank String> labels = Map.of();
+  }
+
+  public static class OrderItem {
+
+    @Positive private final int unitPrice;
+
+    public OrderItem(int unitPrice) {
+      this.unitPrice = unitPrice;
+    }
+  }
+
+  public static class Attribute {
+
+    @NotBlank private final String displayName;
+
+    public Attribute(String displayName) {
+      this.displayName = displayName;
+    }
+  }
+
+  public static class OrderService {
+
+    public void placeOrder(@Positive int itemCount, @Valid OrderItem firstItem) {}
+  }
+}
@@ -78,4 +78,27 @@ void givenAlreadySnakeCaseField_whenFormat_thenReturnsSameField() {
 
     assertThat(result).isEqualTo("my_field_name");
   }
+
+  @Test
+  void givenSameFieldTwice_whenFormat_thenReturnsCachedInstance() {
+    FieldNameFormatting formatting = new JacksonFieldNameFormatting("snake_case");
+
+    String first = formatting.format("orderLineItems");
+    String second = formatting.format("orderLineItems");
+
+    assertThat(first).isEqualTo("order_line_items");
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void givenFullCache_whenFormat_thenStillTranslatesNewFields() {
+    FieldNameFormatting formatting = new JacksonFieldNameFormatting("SNAKE_CASE");
+    for (int i = 0; i < JacksonFieldNameFormatting.MAX_CACHE_SIZE; i++) {
+      formatting.format("field" + i);
+    }
+
+    String result = formatting.format("notCachedField");
+
+    assertThat(result).isEqualTo("not_cached_field");
+  }
 }
@@ -0,0 +1,173 @@
+package io.github.malczuuu.problem4j.spring.web.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.malczuuu.problem4j.core.Problem;
+import io.github.malczuuu.problem4j.core.ProblemException;
+import io.github.malczuuu.problem4j.spring.web.ProblemMappingRegistry;
+import io.github.malczuuu.problem4j.spring.web.ProblemTemplates;
+import io.github.malczuuu.problem4j.spring.web.RetryAfterHeaders;
+import io.github.malczuuu.problem4j.spring.web.ViolationResolver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import reactor.core.publisher.Mono;
+
+class ReactiveProblemResponseEntityExceptionHandlerTest {
+
+  private final MockServerWebExchange exchange =
+      MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+
+  private final List<Exception> adaptedExceptions = new ArrayList<>();
+
+  private final ProblemMappingRegistry problemMappingRegistry = new ProblemMappingRegistry();
+
+  private final ProblemTemplates problemTemplates = new ProblemTemplates();
+
+  private ReactiveProblemResponseEntityExceptionHandler handler;
+
+  @BeforeEach
+  void beforeEach() {
+    ReactiveExceptionAdapter adapter =
+        (exchange, ex, body) -> Mono.fromRunnable(() -> adaptedExceptions.add(ex));
+    handler =
+        new ReactiveProblemResponseEntityExceptionHandler(
+            detail -> detail,
+            new ViolationResolver(fieldName -> fieldName),
+            List.of(adapter),
+            problemTemplates,
+            problemMappingRegistry,
+            new RetryAfterHeaders(Duration.ZERO, 0.0));
+  }
+
+  @Test
+  void givenProblemExceptionShouldReturnItsProblem() {
+    Problem problem =
+        Problem.builder().title("Conflict").status(409).detail("Order exists").build();
+    ProblemException ex = new ProblemException(problem);
+
+    ResponseEntity<Object> response = handler.handleProblemException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    assertEquals(MediaType.APPLICATION_PROBLEM_JSON, response.getHeaders().getContentType());
+    assertSame(problem, response.getBody());
+    assertEquals(List.of(ex), adaptedExceptions);
+  }
+
+  @Test
+  void givenResponseStatusExceptionShouldConvertProblemDetailToProblem() {
+    ResponseStatusException ex = new ResponseStatusException(HttpStatus.NOT_FOUND, "No order");
+
+    ResponseEntity<Object> response = handler.handleException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertInstanceOf(Problem.class, response.getBody());
+    Problem problem = (Problem) response.getBody();
+    assertEquals(HttpStatus.NOT_FOUND.getReasonPhrase(), problem.getTitle());
+    assertEquals(HttpStatus.NOT_FOUND.value(), problem.getStatus());
+    assertEquals("No order", problem.getDetail());
+    assertEquals(MediaType.APPLICATION_PROBLEM_JSON, response.getHeaders().getContentType());
+    assertEquals(List.of(ex), adaptedExceptions);
+  }
+
+  @Test
+  void givenMethodNotAllowedExceptionShouldReturnTemplate() {
+    MethodNotAllowedException ex =
+        new MethodNotAllowedException(HttpMethod.PATCH, List.of(HttpMethod.GET));
+
+    ResponseEntity<Object> response = handler.handleException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.METHOD_NOT_ALLOWED, response.getStatusCode());
+    assertSame(problemTemplates.get(HttpStatus.METHOD_NOT_ALLOWED), response.getBody());
+    assertEquals(MediaType.APPLICATION_PROBLEM_JSON, response.getHeaders().getContentType());
+    assertEquals(List.of(ex), adaptedExceptions);
+  }
+
+  @Test
+  void givenUnsupportedMediaTypeStatusExceptionShouldReturnTemplate() {
+    UnsupportedMediaTypeStatusException ex =
+        new UnsupportedMediaTypeStatusException(
+            MediaType.TEXT_PLAIN, List.of(MediaType.APPLICATION_JSON), HttpMethod.POST);
+
+    ResponseEntity<Object> response = handler.handleException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+    assertSame(problemTemplates.get(HttpStatus.UNSUPPORTED_MEDIA_TYPE), response.getBody());
+  }
+
+  @Test
+  void givenOtherExceptionShouldReturnInternalServerErrorTemplate() {
+    IllegalStateException ex = new IllegalStateException("boom");
+
+    ResponseEntity<Object> response = handler.handleOtherException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    Problem problem = (Problem) response.getBody();
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), problem.getTitle());
+  }
+
+  @Test
+  void givenMappedExceptionShouldReturnMappedProblem() {
+    problemMappingRegistry
+        .register(UnsupportedOperationException.class, HttpStatus.NOT_IMPLEMENTED)
+        .detail(Exception::getMessage);
+
+    UnsupportedOperationException ex = new UnsupportedOperationException("No refunds");
+
+    ResponseEntity<Object> response = handler.handleOtherException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.NOT_IMPLEMENTED, response.getStatusCode());
+    Problem problem = (Problem) response.getBody();
+    assertEquals(HttpStatus.NOT_IMPLEMENTED.getReasonPhrase(), problem.getTitle());
+    assertEquals("No refunds", problem.getDetail());
+  }
+
+  @Test
+  void givenFailingAdaptersShouldStillReturnProblemAndCallFollowingAdapters() {
+    ReactiveExceptionAdapter erroring =
+        (exchange, ex, body) -> Mono.error(new IllegalStateException("adapter failed"));
+    ReactiveExceptionAdapter throwing =
+        (exchange, ex, body) -> {
+          throw new IllegalStateException("adapter failed");
+        };
+    ReactiveExceptionAdapter recording =
+        (exchange, ex, body) -> Mono.fromRunnable(() -> adaptedExceptions.add(ex));
+    handler =
+        new ReactiveProblemResponseEntityExceptionHandler(
+            detail -> detail,
+            new ViolationResolver(fieldName -> fieldName),
+            List.of(erroring, throwing, recording),
+            new ProblemTemplates(),
+            problemMappingRegistry,
+            new RetryAfterHeaders(Duration.ZERO, 0.0));
+    Problem problem =
+        Problem.builder().title("Conflict").status(409).detail("Order exists").build();
+    ProblemException ex = new ProblemException(problem);
+
+    ResponseEntity<Object> response = handler.handleProblemException(ex, exchange).block();
+
+    assertNotNull(response);
+    assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    assertSame(problem, response.getBody());
+    assertEquals(List.of(ex), adaptedExceptions);
+  }
+}